@@ -0,0 +1,24 @@
+package com.prosegrinder.bookworm.enums;
+
+/**
+ * How the paragraphs of a text are laid out.
+ *
+ * <p>LINE is the layout of most manuscripts and e-books, where every line is a paragraph.
+ * BLANK_LINE is the layout of hard-wrapped text, such as Project Gutenberg texts, where a
+ * paragraph runs over several lines and paragraphs are separated by blank lines.
+ */
+public enum ParagraphStyle {
+  LINE("line"), BLANK_LINE("blank line");
+
+  private final String style;
+
+  ParagraphStyle(final String style) {
+    this.style = style;
+  }
+
+  @Override
+  public String toString() {
+    return this.style;
+  }
+
+}
@@ -1,7 +1,10 @@
 package com.prosegrinder.bookworm.util;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.ToIntFunction;
 
 /**
  * It's a container of other containers. Calling it ContainerContainer felt, well, just silly.
@@ -11,7 +14,7 @@ import java.util.Set;
  */
 public abstract class AggregateContainer extends Container {
 
-  protected void aggregateContainers(List<Container> containers) {
+  protected void aggregateContainers(List<? extends Container> containers) {
     this.setWordCharacterCount(containers.stream()
         .mapToInt( container -> container.getWordCharacterCount())
         .sum());
@@ -39,13 +42,78 @@ public abstract class AggregateContainer extends Container {
     this.setThirdPersonWordCount(containers.stream()
         .mapToInt( container -> container.getThirdPersonWordCount())
         .sum());
-  
+
     containers.stream().forEach( container -> {
       Set<Word> uniqueWords = container.getUniqueWords();
       uniqueWords.stream().forEach( word -> {
         this.setWordFrequency(word, this.getWordFrequency(word) + container.getWordFrequency(word));
       });
-    });    
+    });
   }
-  
+
+  /**
+   * Aggregates containers by patching the counts of a previous aggregate, rather than
+   * aggregating every container again. Used when only some of the underlying containers
+   * have changed.
+   *
+   * @param previous  an aggregate of the previous containers
+   * @param removed  containers aggregated by previous that are no longer present
+   * @param added  containers that were not aggregated by previous
+   */
+  protected void aggregateContainers(final Container previous,
+      final List<? extends Container> removed, final List<? extends Container> added) {
+    this.setWordCharacterCount(AggregateContainer.patch(previous.getWordCharacterCount(),
+        removed, added, Container::getWordCharacterCount));
+    this.setSyllableCount(AggregateContainer.patch(previous.getSyllableCount(),
+        removed, added, Container::getSyllableCount));
+    this.setWordCount(AggregateContainer.patch(previous.getWordCount(),
+        removed, added, Container::getWordCount));
+    this.setComplexWordCount(AggregateContainer.patch(previous.getComplexWordCount(),
+        removed, added, Container::getComplexWordCount));
+    this.setLongWordCount(AggregateContainer.patch(previous.getLongWordCount(),
+        removed, added, Container::getLongWordCount));
+    this.setPovWordCount(AggregateContainer.patch(previous.getPovWordCount(),
+        removed, added, Container::getPovWordCount));
+    this.setFirstPersonWordCount(AggregateContainer.patch(previous.getFirstPersonWordCount(),
+        removed, added, Container::getFirstPersonWordCount));
+    this.setSecondPersonWordCount(AggregateContainer.patch(previous.getSecondPersonWordCount(),
+        removed, added, Container::getSecondPersonWordCount));
+    this.setThirdPersonWordCount(AggregateContainer.patch(previous.getThirdPersonWordCount(),
+        removed, added, Container::getThirdPersonWordCount));
+
+    Map<Word, Integer> wordFrequency = new HashMap<Word, Integer>(previous.getWordFrequency());
+    removed.stream().forEach( container -> {
+      AggregateContainer.addWordFrequency(wordFrequency, container.getWordFrequency(), -1);
+    });
+    added.stream().forEach( container -> {
+      AggregateContainer.addWordFrequency(wordFrequency, container.getWordFrequency(), 1);
+    });
+    this.setWordFrequencyMap(wordFrequency);
+  }
+
+  /**
+   * Adds (or, with a negative sign, subtracts) one word frequency map to another. Words whose
+   * frequency drops to zero are removed.
+   *
+   * @param wordFrequency  the word frequency map to update
+   * @param other  the word frequency map to add
+   * @param sign  1 to add other, -1 to subtract it
+   */
+  static void addWordFrequency(final Map<Word, Integer> wordFrequency,
+      final Map<Word, Integer> other, final int sign) {
+    other.forEach( (word, frequency) -> {
+      Integer count = wordFrequency.getOrDefault(word, 0) + sign * frequency;
+      if (count == 0) {
+        wordFrequency.remove(word);
+      } else {
+        wordFrequency.put(word, count);
+      }
+    });
+  }
+
+  private static Integer patch(final Integer previous, final List<? extends Container> removed,
+      final List<? extends Container> added, final ToIntFunction<Container> count) {
+    return previous - removed.stream().mapToInt(count).sum() + added.stream().mapToInt(count).sum();
+  }
+
 }
@@ -0,0 +1,105 @@
+package com.prosegrinder.bookworm.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A Chapter of a Prose, made up of one or more Sections.
+ *
+ * <p>A Chapter begins at a chapter heading, and the heading Paragraph is the first Paragraph
+ * of the Chapter's first Section. Any text before the first heading makes up a Chapter with
+ * no heading. Every Paragraph of a Prose belongs to exactly one Chapter, so Chapters sum
+ * exactly to their Prose.
+ *
+ * @see ProseOptions#getChapterHeadingPattern()
+ */
+public final class Chapter extends AggregateContainer {
+
+  private final String heading;
+  private final List<Section> sections;
+  private final Integer sentenceCount;
+  private final Integer paragraphCount;
+  private List<Paragraph> paragraphs;
+  private List<Word> words;
+
+  /**
+   * Returns a new Chapter from Sections that have already been analyzed.
+   *
+   * <p>Chapters should only be created by a Prose object, which finds their boundaries.
+   *
+   * @param text  the text of the Chapter, from the start of its first Section to the end of its
+   *     last
+   * @param normalizedText  the normalized form of text, taken from the normalized Prose
+   * @param heading  the text of the Chapter's heading, or null if it has none
+   * @param sections  the Sections of the Chapter, in order
+   * @param dictionary  dictionary used for word reference (cache)
+   */
+  Chapter(final CharSequence text, final CharSequence normalizedText, final String heading,
+      final List<Section> sections, final Dictionary2 dictionary) {
+    this.setText(text, normalizedText);
+    this.setDictionary(dictionary);
+    this.heading = heading;
+    this.sections = Collections.unmodifiableList(new ArrayList<Section>(sections));
+    this.aggregateContainers(this.sections);
+    this.sentenceCount = this.sections.stream()
+        .mapToInt( section -> section.getSentenceCount())
+        .sum();
+    this.paragraphCount = this.sections.stream()
+        .mapToInt( section -> section.getParagraphCount())
+        .sum();
+  }
+
+  /**
+   * Returns the text of the Chapter's heading.
+   *
+   * @return the heading, or null for text that comes before the first heading.
+   */
+  public final String getHeading() {
+    return this.heading;
+  }
+
+  public final Integer getParagraphCount() {
+    return this.paragraphCount;
+  }
+
+  public final List<Paragraph> getParagraphs() {
+    if (this.paragraphs == null) {
+      List<Paragraph> paragraphs = new ArrayList<Paragraph>(this.getParagraphCount());
+      this.getSections().stream().forEach( section -> {
+        paragraphs.addAll(section.getParagraphs());
+      });
+      this.paragraphs = Collections.unmodifiableList(paragraphs);
+    }
+    return this.paragraphs;
+  }
+
+  public final Integer getSectionCount() {
+    return this.sections.size();
+  }
+
+  public final List<Section> getSections() {
+    return this.sections;
+  }
+
+  public final Integer getSentenceCount() {
+    return this.sentenceCount;
+  }
+
+  /**
+   * Returns every Word found in the Chapter's Sentences, in order.
+   *
+   * @return an unmodifiable list of the Words found in the Chapter's Sentences.
+   */
+  public final List<Word> getWords() {
+    if (this.words == null) {
+      List<Word> words = new ArrayList<Word>(this.getWordCount());
+      this.getSections().stream().forEach( section -> {
+        words.addAll(section.getWords());
+      });
+      this.words = Collections.unmodifiableList(words);
+    }
+    return this.words;
+  }
+
+}
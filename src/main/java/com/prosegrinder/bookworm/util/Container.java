@@ -1,9 +1,15 @@
 package com.prosegrinder.bookworm.util;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * The WordContainer abstract class represents some fragment of text found in a piece of prose
@@ -13,7 +19,8 @@ import java.util.Set;
 public abstract class Container {
 
   private Dictionary2 dictionary;
-  private String initialText;
+  private CharSequence initialText;
+  private CharSequence normalizedSource;
   private String normalizedText;
   private Map<Word, Integer> wordFrequency = new HashMap<Word, Integer>();
   private Integer wordCharacterCount;
@@ -25,17 +32,30 @@ public abstract class Container {
   private Integer firstPersonWordCount;
   private Integer secondPersonWordCount;
   private Integer thirdPersonWordCount;
-  private static final String RE_SMART_QUOTES = "[“”]";
   
   /**
-   * Normalize text for processing by trimming and converting to lower case.
+   * Normalize text for processing by trimming, converting smart quotation marks and
+   * apostrophes to neutral ones, and converting to lower case.
+   *
+   * <p>Case is converted the same way in every locale.
    *
    * @param text source text to analyze
    * @return a normalized representation of text
    *
    */
+  public static final String normalizeText(final CharSequence text) {
+    return TextNormalizer.normalize(text).toString().trim();
+  }
+
+  /**
+   * Same as normalizeText(CharSequence), kept so code compiled against this String signature
+   * still links.
+   *
+   * @param text source text to analyze
+   * @return a normalized representation of text
+   */
   public static final String normalizeText(final String text) {
-    return text.trim().toLowerCase();
+    return Container.normalizeText((CharSequence) text);
   }
 
   /**
@@ -78,10 +98,24 @@ public abstract class Container {
   /**
    * Returns the initial text used to create the WordContainer.
    *
+   * <p>When the WordContainer was created from a CharSequence other than a String, such as a
+   * CharBuffer over a mapped file, a new String is built on every call. Use
+   * {@link #getInitialCharSequence()} to read the text without copying it.
+   *
    * @return the String used to create the WordContainer.
    *
    */
   public final String getInitialText() {
+    return this.initialText.toString();
+  }
+
+  /**
+   * Returns the initial text used to create the WordContainer without copying it.
+   *
+   * @return the CharSequence used to create the WordContainer.
+   *
+   */
+  public final CharSequence getInitialCharSequence() {
     return this.initialText;
   }
 
@@ -102,13 +136,34 @@ public abstract class Container {
   /**
    * Returns the normalized version of the text used to create the WordContainer.
    *
+   * <p>The normalized text is built the first time it is requested, so containers that are
+   * never asked for it do not hold a second copy of their text. Containers created by a Prose
+   * take it from the normalized text of the entire Prose rather than normalizing again.
+   *
    * @return a normalized version the String representation of the WordContainer.
    *
    */
   public final String getNormalizedText() {
+    if (this.normalizedText == null) {
+      this.normalizedText = (this.normalizedSource != null)
+          ? this.normalizedSource.toString().trim()
+          : Container.normalizeText(this.initialText);
+    }
     return this.normalizedText;
   }
 
+  /**
+   * Returns the normalized text of the container before it is trimmed, without copying it.
+   *
+   * @return the untrimmed normalized text, the same length as the initial text
+   */
+  final CharSequence getNormalizedCharSequence() {
+    if (this.normalizedSource == null) {
+      this.normalizedSource = TextNormalizer.normalize(this.initialText);
+    }
+    return this.normalizedSource;
+  }
+
   /**
    * Returns the number of Words representing any point of view (POV) found in the WordContainer.
    *
@@ -245,11 +300,86 @@ public abstract class Container {
     return wordMap;
   }
 
+  /**
+   * Returns the most frequent Words found in the Container, most frequent first.
+   *
+   * @param count  the most Words to return
+   * @return up to count Words with the number of times each appears
+   * @see #getTopWords(int, boolean)
+   */
+  public final List<Map.Entry<Word, Integer>> getTopWords(final int count) {
+    return this.getTopWords(count, false);
+  }
+
+  /**
+   * Returns the most frequent Words found in the Container, most frequent first, optionally
+   * leaving out stop words. Words that appear equally often are ordered by their normalized
+   * text.
+   *
+   * <p>The word frequency map is read in place, keeping only the most frequent Words found so
+   * far, so this takes O(n log count) time for n unique Words, and never copies or sorts the
+   * entire map.
+   *
+   * @param count  the most Words to return
+   * @param excludeStopWords  true to leave out stop words
+   * @return up to count Words with the number of times each appears
+   * @see Word#STOP_WORDS
+   */
+  public final List<Map.Entry<Word, Integer>> getTopWords(final int count,
+      final boolean excludeStopWords) {
+    return Container.topWords(this.getWordFrequency(), count,
+        word -> !(excludeStopWords && word.isStopWord()));
+  }
+
+  /**
+   * Returns the most frequent Words in a word frequency map, most frequent first, using a heap
+   * that never holds more than count entries.
+   *
+   * @param wordFrequency  a word frequency map, which is not copied
+   * @param count  the most Words to return
+   * @param filter  selects the Words that may be returned
+   * @return up to count Words with the number of times each appears
+   */
+  static final List<Map.Entry<Word, Integer>> topWords(final Map<Word, Integer> wordFrequency,
+      final int count, final Predicate<Word> filter) {
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative: " + count);
+    }
+    final Comparator<Map.Entry<Word, Integer>> order =
+        Comparator.<Map.Entry<Word, Integer>>comparingInt( entry -> entry.getValue())
+            .reversed()
+            .thenComparing( entry -> entry.getKey().getNormalizedText());
+    // The head of the heap is the least frequent Word kept so far.
+    final PriorityQueue<Map.Entry<Word, Integer>> heap =
+        new PriorityQueue<Map.Entry<Word, Integer>>(
+            Math.max(1, Math.min(count, wordFrequency.size())), order.reversed());
+    if (count > 0) {
+      for (final Map.Entry<Word, Integer> entry : wordFrequency.entrySet()) {
+        if (!filter.test(entry.getKey())) {
+          continue;
+        }
+        if (heap.size() < count) {
+          heap.add(entry);
+        } else if (order.compare(entry, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(entry);
+        }
+      }
+    }
+    final List<Map.Entry<Word, Integer>> topWords =
+        new ArrayList<Map.Entry<Word, Integer>>(heap.size());
+    heap.forEach( entry -> {
+      topWords.add(new AbstractMap.SimpleImmutableEntry<Word, Integer>(entry));
+    });
+    topWords.sort(order);
+    return Collections.unmodifiableList(topWords);
+  }
+
   protected void setDictionary(Dictionary2 dictionary) {
     this.dictionary = dictionary;
   }
 
-  protected void setInitialText(final String initialText) {
+  protected void setInitialText(final CharSequence initialText) {
     this.initialText = initialText;
   }
 
@@ -257,9 +387,21 @@ public abstract class Container {
     this.normalizedText = normalizedText;
   }
 
-  protected void setText(final String initialText) {
+  protected void setText(final CharSequence initialText) {
+    this.setText(initialText, null);
+  }
+
+  /**
+   * Sets the initial text along with its normalized form, which must have been normalized as
+   * a whole or as part of a larger text (see Container.normalizeText), but not trimmed.
+   *
+   * @param initialText  the initial text
+   * @param normalizedText  the normalized form of initialText, the same length
+   */
+  protected void setText(final CharSequence initialText, final CharSequence normalizedText) {
     this.setInitialText(initialText);
-    this.setNormalizedText(Container.normalizeText(Container.convertSmartQuotes(initialText)));
+    this.normalizedSource = normalizedText;
+    this.setNormalizedText(null);
   }
 
   /**
@@ -282,8 +424,19 @@ public abstract class Container {
    * @return a copy of text using neutral quotation marks in place of smart quotation marks
    *
    */
+  public static final String convertSmartQuotes(final CharSequence text) {
+    return TextNormalizer.foldQuotes(text);
+  }
+
+  /**
+   * Same as convertSmartQuotes(CharSequence), kept so code compiled against this String
+   * signature still links.
+   *
+   * @param text  source text to analyze
+   * @return a copy of text using neutral quotation marks in place of smart quotation marks
+   */
   public static final String convertSmartQuotes(final String text) {
-    return text.replaceAll(Container.RE_SMART_QUOTES, "\"");
+    return Container.convertSmartQuotes((CharSequence) text);
   }
 
   /**
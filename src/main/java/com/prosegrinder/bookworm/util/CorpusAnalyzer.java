@@ -0,0 +1,305 @@
+package com.prosegrinder.bookworm.util;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Analyzes many documents across a fixed number of worker threads.
+ *
+ * <p>Documents are read and analyzed as they are pulled from the source, never more than one
+ * per worker at a time, and never more than the memory budget allows. Each document is
+ * reduced to a DocumentAnalysis as soon as it has been analyzed, and its Prose is released
+ * before the next document is taken up, so memory use does not grow with the size of the
+ * corpus.
+ *
+ * <p>The memory budget bounds the bytes of source text being analyzed at once. Analysis takes
+ * several times the size of its text, so the budget should be set well below the heap size. A
+ * document larger than the entire budget is analyzed on its own.
+ *
+ * @see DocumentAnalysis
+ * @see CorpusSummary
+ */
+public final class CorpusAnalyzer {
+
+  private static final Logger logger = LoggerFactory.getLogger(CorpusAnalyzer.class);
+
+  private final Dictionary2 dictionary;
+  private final Integer workers;
+  private final Long memoryBudget;
+  private final Charset charset;
+  private final ProseOptions options;
+
+  /**
+   * Get a new CorpusAnalyzer using a configuration object.
+   *
+   * @param config A Typesafe Config containing necessary parameters for construction.
+   * @param dictionary  dictionary used for word reference (cache)
+   * @return a new CorpusAnalyzer
+   */
+  public static final CorpusAnalyzer getCorpusAnalyzer(final Config config,
+      final Dictionary2 dictionary) {
+    Integer workers = config.getInt("workers");
+    Long memoryBudget = config.getBytes("memoryBudget");
+    Charset charset = Charset.forName(config.getString("charset"));
+    Long paragraphCacheSize = config.getBytes("paragraphCacheSize");
+    ProseOptions options = (paragraphCacheSize > 0)
+        ? ProseOptions.getDefaultProseOptions().withParagraphCache(
+            new ParagraphCache(paragraphCacheSize))
+        : ProseOptions.getDefaultProseOptions();
+    return new CorpusAnalyzer(dictionary, workers, memoryBudget, charset, options);
+  }
+
+  public static final CorpusAnalyzer getDefaultCorpusAnalyzer(final Dictionary2 dictionary) {
+    Config config =
+        ConfigFactory.load().getConfig("com.prosegrinder.bookworm.util.corpusAnalyzer");
+    return CorpusAnalyzer.getCorpusAnalyzer(config, dictionary);
+  }
+
+  /**
+   * Create a new CorpusAnalyzer.
+   *
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param workers  number of documents analyzed at once
+   * @param memoryBudget  most bytes of source text analyzed at once
+   * @param charset  charset documents are decoded with
+   */
+  public CorpusAnalyzer(final Dictionary2 dictionary, final Integer workers,
+      final Long memoryBudget, final Charset charset) {
+    this(dictionary, workers, memoryBudget, charset, ProseOptions.getDefaultProseOptions());
+  }
+
+  /**
+   * Create a new CorpusAnalyzer that analyzes every document with the same options. Give the
+   * options a ParagraphCache to reuse Paragraphs repeated across documents.
+   *
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param workers  number of documents analyzed at once
+   * @param memoryBudget  most bytes of source text analyzed at once
+   * @param charset  charset documents are decoded with
+   * @param options  options documents are analyzed with
+   */
+  public CorpusAnalyzer(final Dictionary2 dictionary, final Integer workers,
+      final Long memoryBudget, final Charset charset, final ProseOptions options) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("workers must be at least 1: " + workers);
+    }
+    if (memoryBudget < 1) {
+      throw new IllegalArgumentException("memoryBudget must be at least 1: " + memoryBudget);
+    }
+    this.dictionary = dictionary;
+    this.workers = workers;
+    this.memoryBudget = memoryBudget;
+    this.charset = charset;
+    this.options = options;
+  }
+
+  public final Integer getWorkers() {
+    return this.workers;
+  }
+
+  public final Long getMemoryBudget() {
+    return this.memoryBudget;
+  }
+
+  public final Charset getCharset() {
+    return this.charset;
+  }
+
+  public final ProseOptions getProseOptions() {
+    return this.options;
+  }
+
+  /**
+   * Analyzes every regular file in a directory and its subdirectories, in path order.
+   *
+   * @param directory  directory containing the documents
+   * @param sink  receives a DocumentAnalysis for each document as it is finished
+   * @return counts and throughput for the run
+   * @throws IOException if the directory cannot be walked
+   * @throws InterruptedException if interrupted while waiting on workers
+   * @see #analyze(Iterator, Consumer)
+   */
+  public final CorpusSummary analyze(final Path directory,
+      final Consumer<? super DocumentAnalysis> sink) throws IOException, InterruptedException {
+    return this.analyze(directory, sink, null);
+  }
+
+  /**
+   * Analyzes every regular file in a directory and its subdirectories, in path order, adding
+   * every document's Words to a VocabularySketch.
+   *
+   * @param directory  directory containing the documents
+   * @param sink  receives a DocumentAnalysis for each document as it is finished
+   * @param sketch  receives every Word of every document, or null for none
+   * @return counts and throughput for the run
+   * @throws IOException if the directory cannot be walked
+   * @throws InterruptedException if interrupted while waiting on workers
+   * @see #analyze(Iterator, Consumer, VocabularySketch)
+   */
+  public final CorpusSummary analyze(final Path directory,
+      final Consumer<? super DocumentAnalysis> sink, final VocabularySketch sketch)
+      throws IOException, InterruptedException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      return this.analyze(paths.filter(Files::isRegularFile).sorted()
+          .collect(Collectors.toList()).iterator(), sink, sketch);
+    }
+  }
+
+  /**
+   * Analyzes every document an iterator returns.
+   *
+   * <p>The iterator is only advanced when a worker and enough of the memory budget are free,
+   * so it may produce its documents lazily. The sink is called from the worker threads, one
+   * call at a time, in the order documents finish. A document that cannot be read is logged
+   * and counted as failed, and the run carries on. If the analysis of a document throws
+   * anything, including an Error such as OutOfMemoryError, the document is counted as failed;
+   * if the analysis or the sink throws, the run stops taking up new documents and the first
+   * exception or Error is rethrown once the workers have finished.
+   *
+   * @param sources  documents to analyze
+   * @param sink  receives a DocumentAnalysis for each document as it is finished
+   * @return counts and throughput for the run
+   * @throws InterruptedException if interrupted while waiting on workers
+   */
+  public final CorpusSummary analyze(final Iterator<Path> sources,
+      final Consumer<? super DocumentAnalysis> sink) throws InterruptedException {
+    return this.analyze(sources, sink, null);
+  }
+
+  /**
+   * Analyzes every document an iterator returns, adding every document's Words to a
+   * VocabularySketch.
+   *
+   * <p>Word frequency maps are never kept past a single document, so vocabulary statistics
+   * for the entire corpus are gathered in the sketch's fixed memory, however large the corpus.
+   * Words are added from the worker threads, one document at a time.
+   *
+   * @param sources  documents to analyze
+   * @param sink  receives a DocumentAnalysis for each document as it is finished
+   * @param sketch  receives every Word of every document, or null for none
+   * @return counts and throughput for the run
+   * @throws InterruptedException if interrupted while waiting on workers
+   * @see #analyze(Iterator, Consumer)
+   */
+  public final CorpusSummary analyze(final Iterator<Path> sources,
+      final Consumer<? super DocumentAnalysis> sink, final VocabularySketch sketch)
+      throws InterruptedException {
+    final long startTime = System.nanoTime();
+    // Budget permits are counted in KiB so that budgets beyond 2 GiB fit in a Semaphore.
+    final int budgetPermits = (int) Math.max(1,
+        Math.min(Integer.MAX_VALUE, (this.getMemoryBudget() + 1023) / 1024));
+    final Semaphore budget = new Semaphore(budgetPermits);
+    final Semaphore slots = new Semaphore(this.getWorkers());
+    final AtomicLong documentCount = new AtomicLong();
+    final AtomicLong failedDocumentCount = new AtomicLong();
+    final AtomicLong characterCount = new AtomicLong();
+    final AtomicLong wordCount = new AtomicLong();
+    final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    final ExecutorService executor = Executors.newFixedThreadPool(this.getWorkers());
+    try {
+      while (failure.get() == null && sources.hasNext()) {
+        final Path source = sources.next();
+        final int permits = (int) Math.min(budgetPermits,
+            Math.max(1, (CorpusAnalyzer.sizeOf(source) + 1023) / 1024));
+        slots.acquire();
+        try {
+          budget.acquire(permits);
+        } catch (InterruptedException e) {
+          slots.release();
+          throw e;
+        }
+        executor.execute(() -> {
+          try {
+            final DocumentAnalysis analysis;
+            try {
+              analysis = this.analyzeDocument(source, sketch);
+            } catch (Throwable t) {
+              failedDocumentCount.incrementAndGet();
+              throw t;
+            }
+            if (analysis == null) {
+              failedDocumentCount.incrementAndGet();
+              return;
+            }
+            documentCount.incrementAndGet();
+            characterCount.addAndGet(analysis.getCharacterCount());
+            wordCount.addAndGet(analysis.getWordCount());
+            synchronized (sink) {
+              sink.accept(analysis);
+            }
+          } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+          } finally {
+            budget.release(permits);
+            slots.release();
+          }
+        });
+      }
+      // Every slot is free again once the last document has finished.
+      slots.acquire(this.getWorkers());
+    } finally {
+      executor.shutdownNow();
+    }
+    final Throwable thrown = failure.get();
+    if (thrown instanceof RuntimeException) {
+      throw (RuntimeException) thrown;
+    } else if (thrown instanceof Error) {
+      throw (Error) thrown;
+    } else if (thrown != null) {
+      throw new IllegalStateException("Could not analyze corpus", thrown);
+    }
+    return new CorpusSummary(documentCount.get(), failedDocumentCount.get(),
+        characterCount.get(), wordCount.get(), System.nanoTime() - startTime);
+  }
+
+  /**
+   * Reads and analyzes a single document.
+   *
+   * @param source  the document to analyze
+   * @param sketch  receives the document's Words, or null for none
+   * @return the results of the analysis, or null if the document could not be read
+   */
+  private DocumentAnalysis analyzeDocument(final Path source, final VocabularySketch sketch) {
+    final long startTime = System.nanoTime();
+    try {
+      Prose prose =
+          Prose.fromFile(source, this.getCharset(), this.dictionary, this.getProseOptions());
+      if (sketch != null) {
+        synchronized (sketch) {
+          sketch.add(prose);
+        }
+      }
+      return new DocumentAnalysis(source, prose, System.nanoTime() - startTime);
+    } catch (IOException e) {
+      logger.warn("Unable to analyze " + source + ": " + e.getMessage());
+      return null;
+    }
+  }
+
+  private static long sizeOf(final Path source) {
+    try {
+      return Files.size(source);
+    } catch (IOException e) {
+      // Reading it will fail and be counted then.
+      return 0;
+    }
+  }
+
+}
@@ -0,0 +1,70 @@
+package com.prosegrinder.bookworm.util;
+
+/**
+ * Aggregate counts and throughput for one run of a CorpusAnalyzer.
+ *
+ * @see CorpusAnalyzer
+ */
+public final class CorpusSummary {
+
+  private final Long documentCount;
+  private final Long failedDocumentCount;
+  private final Long characterCount;
+  private final Long wordCount;
+  private final Long elapsedNanos;
+
+  /**
+   * Returns a new CorpusSummary.
+   *
+   * @param documentCount  count of documents analyzed
+   * @param failedDocumentCount  count of documents that could not be read or analyzed
+   * @param characterCount  count of characters in the documents analyzed
+   * @param wordCount  count of words in the documents analyzed
+   * @param elapsedNanos  wall clock time taken by the run, in nanoseconds
+   */
+  public CorpusSummary(final Long documentCount, final Long failedDocumentCount,
+      final Long characterCount, final Long wordCount, final Long elapsedNanos) {
+    this.documentCount = documentCount;
+    this.failedDocumentCount = failedDocumentCount;
+    this.characterCount = characterCount;
+    this.wordCount = wordCount;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public final Long getDocumentCount() {
+    return this.documentCount;
+  }
+
+  public final Long getFailedDocumentCount() {
+    return this.failedDocumentCount;
+  }
+
+  public final Long getCharacterCount() {
+    return this.characterCount;
+  }
+
+  public final Long getWordCount() {
+    return this.wordCount;
+  }
+
+  public final Long getElapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  public final Double getDocumentsPerSecond() {
+    return CorpusSummary.perSecond(this.getDocumentCount(), this.getElapsedNanos());
+  }
+
+  public final Double getCharactersPerSecond() {
+    return CorpusSummary.perSecond(this.getCharacterCount(), this.getElapsedNanos());
+  }
+
+  public final Double getWordsPerSecond() {
+    return CorpusSummary.perSecond(this.getWordCount(), this.getElapsedNanos());
+  }
+
+  private static Double perSecond(final Long count, final Long nanos) {
+    return (nanos > 0) ? count * 1e9 / nanos : 0.0;
+  }
+
+}
@@ -1,5 +1,6 @@
 package com.prosegrinder.bookworm.util;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -32,10 +33,34 @@ public final class DialogueFragment extends WordContainer {
    * @param text    a string of text representing a piece of dialogue
    * @param dictionary  dictionary used for word reference (cache)
    */
-  public DialogueFragment(final String text, Dictionary2 dictionary) {
+  public DialogueFragment(final CharSequence text, Dictionary2 dictionary) {
     super(text, dictionary);
   }
 
+  /**
+   * Same as the CharSequence version, kept so code compiled against this String signature
+   * still links.
+   *
+   * @param text    a string of text representing dialogue
+   * @param dictionary  dictionary used for word reference (cache)
+   */
+  public DialogueFragment(final String text, final Dictionary2 dictionary) {
+    this((CharSequence) text, dictionary);
+  }
+
+  DialogueFragment(final CharSequence text, final CharSequence normalizedText,
+      final List<Word> words, final Dictionary2 dictionary) {
+    super(text, normalizedText, words, dictionary);
+  }
+
+  /**
+   * Returns the pattern that defines dialogue.
+   *
+   * <p>Prose does not search with this pattern. It finds dialogue with a scanner that matches
+   * exactly what this pattern matches, in a single pass over the text.
+   *
+   * @return the pattern that defines dialogue
+   */
   public static final Pattern getPattern() {
     return DialogueFragment.DIALOGUE_PATTERN;
   }
@@ -0,0 +1,180 @@
+package com.prosegrinder.bookworm.util;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Finds dialogue and narrative in a text in a single pass, without regular expressions.
+ *
+ * <p>Finds exactly what DialogueFragment's pattern finds. Dialogue opens at a double quotation
+ * mark (", “ or ”) and runs to the first character that is followed by another double
+ * quotation mark, taking that mark with it, or to the end of the line, taking the line feed
+ * with it. Dialogue never runs past a line terminator: when a line ends in some other
+ * terminator (such as a carriage return), or the text ends, before dialogue closes, the
+ * opening mark is taken as narrative, unless it is immediately followed by a second mark, in
+ * which case the two marks are dialogue on their own.
+ *
+ * <p>Left and right double quotation marks are read as neutral quotation marks as they are
+ * scanned, so the text is never copied to convert them.
+ *
+ * @see DialogueFragment#getPattern()
+ */
+final class DialogueScanner {
+
+  /** Texts longer than this are scanned in chunks of about this size, in parallel. **/
+  static final int CHUNK_SIZE = 1 << 16;
+
+  private DialogueScanner() {
+  }
+
+  /**
+   * Finds the start and end offset of every piece of dialogue in the text, scanning chunks
+   * of the text in parallel.
+   *
+   * <p>The state of the scan is the same at the start of every line: dialogue never runs
+   * past a line feed, so no dialogue is open and no quotation mark is pending once one has
+   * been passed. Chunks are cut just after line feeds, so each chunk is scanned from that
+   * known state and the spans found in each are exactly the spans a serial scan finds there.
+   *
+   * @param text  text to search
+   * @return start and end offset pairs of every piece of dialogue
+   */
+  static int[] findDialogueSpansParallel(final CharSequence text) {
+    final int length = text.length();
+    if (length <= DialogueScanner.CHUNK_SIZE) {
+      return DialogueScanner.findDialogueSpans(text, 0, length);
+    }
+    int[] chunkStarts = new int[length / DialogueScanner.CHUNK_SIZE + 2];
+    int chunkCount = 1;
+    int position = DialogueScanner.CHUNK_SIZE;
+    while (position < length) {
+      while (position < length && text.charAt(position - 1) != '\n') {
+        position++;
+      }
+      if (position < length) {
+        chunkStarts[chunkCount++] = position;
+      }
+      position += DialogueScanner.CHUNK_SIZE;
+    }
+    chunkStarts[chunkCount] = length;
+    final int[] starts = chunkStarts;
+    final int[][] chunkSpans = new int[chunkCount][];
+    IntStream.range(0, chunkCount).parallel().forEach( i -> {
+      chunkSpans[i] = DialogueScanner.findDialogueSpans(text, starts[i], starts[i + 1]);
+    });
+    int count = 0;
+    for (int[] spans : chunkSpans) {
+      count += spans.length;
+    }
+    final int[] spans = new int[count];
+    count = 0;
+    for (int[] chunk : chunkSpans) {
+      System.arraycopy(chunk, 0, spans, count, chunk.length);
+      count += chunk.length;
+    }
+    return spans;
+  }
+
+  /**
+   * Finds the start and end offset of every piece of dialogue in a region of the text.
+   *
+   * <p>The region should begin at the start of a line and end at the end of one (just past its
+   * line feed) or at the end of the text. Dialogue never crosses a line feed, so a region that
+   * does gives exactly the dialogue the entire text would within that region.
+   *
+   * @param text  text to search
+   * @param start  offset of the start of the region
+   * @param end  offset of the end of the region
+   * @return start and end offset pairs of every piece of dialogue
+   */
+  static int[] findDialogueSpans(final CharSequence text, final int start, final int end) {
+    int[] spans = new int[16];
+    int count = 0;
+    int position = start;
+    while (position < end) {
+      if (!DialogueScanner.isQuote(text.charAt(position))) {
+        position++;
+        continue;
+      }
+      final int dialogueEnd = DialogueScanner.findDialogueEnd(text, position, end);
+      if (dialogueEnd < 0) {
+        position++;
+        continue;
+      }
+      if (count == spans.length) {
+        spans = Arrays.copyOf(spans, spans.length * 2);
+      }
+      spans[count++] = position;
+      spans[count++] = dialogueEnd;
+      position = dialogueEnd;
+    }
+    return Arrays.copyOf(spans, count);
+  }
+
+  /**
+   * Finds the start and end offset of every piece of narrative in the text, which is
+   * everything between the pieces of dialogue. Narrative is split out exactly the way
+   * Pattern.split splits the text around dialogue, including its empty pieces.
+   *
+   * @param dialogueSpans  start and end offset pairs of every piece of dialogue
+   * @param length  length of the text
+   * @return start and end offset pairs of every piece of narrative
+   */
+  static int[] findNarrativeSpans(final int[] dialogueSpans, final int length) {
+    int[] spans = new int[dialogueSpans.length + 2];
+    int start = 0;
+    for (int i = 0; i < dialogueSpans.length; i += 2) {
+      spans[i] = start;
+      spans[i + 1] = dialogueSpans[i];
+      start = dialogueSpans[i + 1];
+    }
+    spans[dialogueSpans.length] = start;
+    spans[dialogueSpans.length + 1] = length;
+    int count = spans.length;
+    // Like Pattern.split, drop trailing empty pieces unless there was no dialogue at all.
+    while (dialogueSpans.length > 0 && count > 0 && spans[count - 2] == spans[count - 1]) {
+      count -= 2;
+    }
+    return Arrays.copyOf(spans, count);
+  }
+
+  /**
+   * Returns the end of the dialogue opened by the quotation mark at an offset.
+   *
+   * @param text  text to search
+   * @param quote  offset of the opening quotation mark
+   * @param end  offset of the end of the region being searched
+   * @return offset just past the end of the dialogue, or -1 if the mark opens no dialogue
+   */
+  private static int findDialogueEnd(final CharSequence text, final int quote, final int end) {
+    for (int i = quote + 1; i < end; i++) {
+      final char c = text.charAt(i);
+      if (DialogueScanner.isLineTerminator(c)) {
+        if (c == '\n') {
+          return i + 1;
+        }
+        break;
+      }
+      if (i + 1 < end && DialogueScanner.isQuote(text.charAt(i + 1))) {
+        return i + 2;
+      }
+    }
+    return (quote + 1 < end && DialogueScanner.isQuote(text.charAt(quote + 1)))
+        ? quote + 2 : -1;
+  }
+
+  private static boolean isQuote(final char c) {
+    return c == '"' || c == '“' || c == '”';
+  }
+
+  /**
+   * Returns true for the characters that end a line for a regular expression's dot.
+   *
+   * @param c  character to test
+   * @return true if c is a line terminator
+   */
+  private static boolean isLineTerminator(final char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+}
@@ -3,6 +3,8 @@ package com.prosegrinder.bookworm.util;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
@@ -16,7 +18,10 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,6 +44,8 @@ public final class Dictionary2 {
 
   /** Location of cmudict.dict file. **/
   private static String cmudictFile;
+  /** Hash of the entries of the cmudict.dict file. **/
+  private static String cmudictHash;
   /** Maximum number of entries in wordCache. **/
   private static Long maxWordCacheSize;
   /** TTL of non-words. **/
@@ -59,6 +66,9 @@ public final class Dictionary2 {
 
   private static final Logger logger = LoggerFactory.getLogger(Dictionary2.class);
 
+  /** Every point of view Word, looked up on first use. **/
+  private volatile List<Word> povWords = null;
+
   /** Regex used to test if a string represents a number. **/
   private static final String RE_NUMERIC = "^[+-]{0,1}\\d{1,3}(?:[,]\\d{3})*(?:[.]\\d*)*$";
 
@@ -118,6 +128,16 @@ public final class Dictionary2 {
     return Dictionary2.cmudictFile;
   }
 
+  /**
+   * Returns a version of the dictionary that changes whenever its entries do, made from the
+   * location of the cmudict.dict file and a hash of its entries.
+   *
+   * @return the version of the dictionary
+   */
+  public static final String getVersion() {
+    return Dictionary2.cmudictFile + "@" + Dictionary2.cmudictHash;
+  }
+
   public static final Long getMaxWordCacheSize() {
     return Dictionary2.maxWordCacheSize;
   }
@@ -207,7 +227,8 @@ public final class Dictionary2 {
    */
   public final Integer getHeuristicSyllableCount(final String wordString) {
     // Lower case, fold contractions, and strip silent e off the end.
-    String strippedWord = wordString.trim().toLowerCase().replaceAll("'", "").replaceAll("e$", "");
+    String strippedWord = TextNormalizer.foldApostrophes(wordString).trim().toLowerCase()
+        .replaceAll("'", "").replaceAll("e$", "");
     int syllableCount = 0;
 
     if (strippedWord == null || "".equals(strippedWord)) {
@@ -272,16 +293,20 @@ public final class Dictionary2 {
   }
 
   /**
-   * Get the number of syllables by looking up the word in the underlying cmudict.
+   * Get the phoneme string for a word from the underlying cmudict.
+   *
+   * <p>cmudict spells contractions with an apostrophe ('), so any other mark standing in for
+   * one, such as the right single quotation mark (’), is folded to an apostrophe first.
    *
    * @param wordString a single word
-   * @return the number of syllables in the word
+   * @return the cmudict phoneme string for the word
    * @throws IllegalArgumentException throws if the word is not in the underlying dictionary
    *
    */
   public final String getPhonemeString(final String wordString) throws IllegalArgumentException {
-    if (phonemeStringMap.containsKey(wordString)) {
-      return phonemeStringMap.get(wordString);
+    String phonemeString = phonemeStringMap.get(TextNormalizer.foldApostrophes(wordString));
+    if (phonemeString != null) {
+      return phonemeString;
     } else {
       String msg = "cmudict does not contain an entry for " + wordString + ".";
       throw new IllegalArgumentException(msg);
@@ -308,11 +333,15 @@ public final class Dictionary2 {
 
   /**
    * Public word loader. Pulls from cache first.
+   *
+   * <p>Apostrophes are folded before the word is looked up, so “don’t” and “don't” are the same
+   * Word, found in cmudict, and cached once.
    * 
-   * @param wordString a single word
+   * @param word a single word
    * @return a Word object represented by wordString
    */
-  public final Word getWord(final String wordString) throws IllegalArgumentException {
+  public final Word getWord(final String word) throws IllegalArgumentException {
+    String wordString = TextNormalizer.foldApostrophes(word);
     Boolean inCmudict = this.inCmudict(wordString);
     Boolean isNumeric = this.isNumeric(wordString);
     try {
@@ -328,6 +357,21 @@ public final class Dictionary2 {
     }
   }
 
+  /**
+   * Returns the Word for every point of view word, looked up once rather than on every use.
+   *
+   * @return an unmodifiable list of every point of view Word
+   * @see Word#getPovType()
+   */
+  final List<Word> getPovWords() {
+    if (this.povWords == null) {
+      List<Word> povWords = new ArrayList<Word>(Word.POV_INDEX.size());
+      Word.POV_INDEX.keySet().forEach( wordString -> povWords.add(this.getWord(wordString)));
+      this.povWords = Collections.unmodifiableList(povWords);
+    }
+    return this.povWords;
+  }
+
   /**
    * Test if a String is in an underlying real dictionary.
    * 
@@ -397,7 +441,7 @@ public final class Dictionary2 {
    * @return boolean representing whether the word is found in the underlying dictionary
    */
   public final Boolean inNonWordCache(final String wordString) {
-    return nonWordCache.asMap().containsKey(wordString);
+    return nonWordCache.asMap().containsKey(TextNormalizer.foldApostrophes(wordString));
   }
 
   /**
@@ -407,7 +451,7 @@ public final class Dictionary2 {
    * @return boolean representing whether the word is found in the underlying dictionary
    */
   public final Boolean inWordCache(final String wordString) {
-    return wordCache.asMap().containsKey(wordString);
+    return wordCache.asMap().containsKey(TextNormalizer.foldApostrophes(wordString));
   }
 
   /**
@@ -430,11 +474,14 @@ public final class Dictionary2 {
       // Updated based on: https://stackoverflow.com/questions/20389255/reading-a-resource-file-from-within-jar
       BufferedReader reader = new BufferedReader(new InputStreamReader(in));
       Stream<String> stream = reader.lines();
+      Hasher hasher = Hashing.murmur3_128().newHasher();
       stream.filter(line -> !line.startsWith(";;;")).forEach(line -> {
         String[] parts = line.split("\\s+", 2);
         String wordString = parts[0];
         phonemeStringMap.put(wordString, parts[1]);
+        hasher.putString(line, StandardCharsets.UTF_8).putChar('\n');
       });
+      Dictionary2.cmudictHash = hasher.hash().toString();
     } catch (NullPointerException npe) {
       logger.warn("CMU Dictionary file not found: " + Dictionary2.cmudictFile);
     }
@@ -0,0 +1,94 @@
+package com.prosegrinder.bookworm.util;
+
+import com.prosegrinder.bookworm.enums.PovType;
+
+import java.nio.file.Path;
+
+/**
+ * The results of analyzing a single document in a corpus.
+ *
+ * <p>Holds only counts and scores, not the Prose they came from, so results can be kept for
+ * every document in a large corpus without keeping every document's text and Words.
+ *
+ * @see CorpusAnalyzer
+ */
+public final class DocumentAnalysis {
+
+  private final Path source;
+  private final Integer characterCount;
+  private final Integer wordCount;
+  private final Integer syllableCount;
+  private final Integer sentenceCount;
+  private final Integer paragraphCount;
+  private final Integer dialogueWordCount;
+  private final Integer narrativeWordCount;
+  private final PovType pov;
+  private final ReadabilityScores readabilityScores;
+  private final Long analysisNanos;
+
+  /**
+   * Returns a new DocumentAnalysis from an analyzed Prose.
+   *
+   * @param source  the document the Prose was read from
+   * @param prose  the analyzed document
+   * @param analysisNanos  time taken to read and analyze the document, in nanoseconds
+   */
+  public DocumentAnalysis(final Path source, final Prose prose, final Long analysisNanos) {
+    this.source = source;
+    this.characterCount = prose.getInitialCharSequence().length();
+    this.wordCount = prose.getWordCount();
+    this.syllableCount = prose.getSyllableCount();
+    this.sentenceCount = prose.getSentenceCount();
+    this.paragraphCount = prose.getParagraphCount();
+    this.dialogueWordCount = prose.getDialogueWordCount();
+    this.narrativeWordCount = prose.getNarrativeWordCount();
+    this.pov = prose.getPov();
+    this.readabilityScores = new ReadabilityScores(prose);
+    this.analysisNanos = analysisNanos;
+  }
+
+  public final Path getSource() {
+    return this.source;
+  }
+
+  public final Integer getCharacterCount() {
+    return this.characterCount;
+  }
+
+  public final Integer getWordCount() {
+    return this.wordCount;
+  }
+
+  public final Integer getSyllableCount() {
+    return this.syllableCount;
+  }
+
+  public final Integer getSentenceCount() {
+    return this.sentenceCount;
+  }
+
+  public final Integer getParagraphCount() {
+    return this.paragraphCount;
+  }
+
+  public final Integer getDialogueWordCount() {
+    return this.dialogueWordCount;
+  }
+
+  public final Integer getNarrativeWordCount() {
+    return this.narrativeWordCount;
+  }
+
+  public final PovType getPov() {
+    return this.pov;
+  }
+
+  public final ReadabilityScores getReadabilityScores() {
+    return this.readabilityScores;
+  }
+
+  public final Long getAnalysisNanos() {
+    return this.analysisNanos;
+  }
+
+}
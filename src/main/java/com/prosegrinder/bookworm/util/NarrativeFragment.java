@@ -1,5 +1,7 @@
 package com.prosegrinder.bookworm.util;
 
+import java.util.List;
+
 /**
  * Represents a fragment of narrative (i.e. not dialogue).
  * 
@@ -25,8 +27,24 @@ public final class NarrativeFragment extends WordContainer {
    * @param text a string of text representing a piece of narrative
    * @param dictionary dictionary used for word reference (cache)
    */
-  public NarrativeFragment(final String text, Dictionary2 dictionary) {
+  public NarrativeFragment(final CharSequence text, Dictionary2 dictionary) {
     super(text, dictionary);
   }
 
+  /**
+   * Same as the CharSequence version, kept so code compiled against this String signature
+   * still links.
+   *
+   * @param text    a string of text representing narrative
+   * @param dictionary  dictionary used for word reference (cache)
+   */
+  public NarrativeFragment(final String text, final Dictionary2 dictionary) {
+    this((CharSequence) text, dictionary);
+  }
+
+  NarrativeFragment(final CharSequence text, final CharSequence normalizedText,
+      final List<Word> words, final Dictionary2 dictionary) {
+    super(text, normalizedText, words, dictionary);
+  }
+
 }
@@ -1,13 +1,16 @@
 package com.prosegrinder.bookworm.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public final class Paragraph extends AggregateContainer {
 
-  private final List<Sentence> sentences = new ArrayList<Sentence>();
+  private final List<Sentence> sentences;
+  private final TokenList tokens;
+  private volatile List<Word> words;
   private final Integer sentenceCount;
   private static final Pattern PARAGRAPH_PATTERN = Pattern.compile(
       ".*(?=\\n|$)"
@@ -17,18 +20,52 @@ public final class Paragraph extends AggregateContainer {
    * Returns a new Paragraph from a string.
    *
    * <p>String is not currently validated since Paragraphs should
-   * only be created by a Prose object using WordContainer.PARAGRAPH_PATTERN.
+   * only be created by a Prose object, which finds them with a ParagraphScanner.
+   *
+   * <p>Words are matched and resolved once for the whole paragraph. Each Sentence is given
+   * the Words that fall within it.
    * 
    * @param text    a string of text representing a complete paragraph
    * @param dictionary  dictionary used for word reference (cache)
    */
-  public Paragraph(final String text, Dictionary2 dictionary) {
-    this.setText(text);
+  public Paragraph(final CharSequence text, Dictionary2 dictionary) {
+    this(text, TextNormalizer.normalize(text), dictionary);
+  }
+
+  /**
+   * Same as the CharSequence version, kept so code compiled against this String signature
+   * still links.
+   *
+   * @param text    a string of text representing a complete paragraph
+   * @param dictionary  dictionary used for word reference (cache)
+   */
+  public Paragraph(final String text, final Dictionary2 dictionary) {
+    this((CharSequence) text, dictionary);
+  }
+
+  /**
+   * Returns a new Paragraph from a string that has already been normalized, usually as part
+   * of an entire Prose. Each Sentence takes its normalized text from the Paragraph's.
+   *
+   * @param text    a string of text representing a complete paragraph
+   * @param normalizedText  the normalized form of text
+   * @param dictionary  dictionary used for word reference (cache)
+   */
+  Paragraph(final CharSequence text, final CharSequence normalizedText,
+      final Dictionary2 dictionary) {
+    this.setText(text, normalizedText);
     this.setDictionary(dictionary);
-    Matcher sentenceMatcher = Sentence.getPattern().matcher(text);
-    while (sentenceMatcher.find()) {
-      this.sentences.add(new Sentence(sentenceMatcher.group(), this.getDictionary()));
+    this.tokens = TokenList.tokenize(normalizedText, this.getDictionary());
+    List<Sentence> sentences = new ArrayList<Sentence>();
+    int[] sentenceSpans = SentenceScanner.findSentenceSpans(text);
+    for (int i = 0; i < sentenceSpans.length; i += 2) {
+      sentences.add(new Sentence(
+          text.subSequence(sentenceSpans[i], sentenceSpans[i + 1]),
+          normalizedText.subSequence(sentenceSpans[i], sentenceSpans[i + 1]),
+          this.tokens.getWords(sentenceSpans[i], sentenceSpans[i + 1]),
+          this.getDictionary()));
     }
+    this.sentences = Collections.unmodifiableList(sentences);
     List<Container> containers = new ArrayList<Container>();
     sentences.stream().forEach( sentence -> {
       containers.add((Container) sentence);
@@ -37,10 +74,30 @@ public final class Paragraph extends AggregateContainer {
     this.sentenceCount = this.sentences.size();
   }
 
+  /**
+   * Returns the pattern that matches a single line of text.
+   *
+   * <p>Prose does not search with this pattern. It finds Paragraphs with a scanner that
+   * follows the Paragraph style of its ProseOptions and never makes a Paragraph of a blank
+   * line, which this pattern does.
+   *
+   * @return the pattern that matches a single line of text
+   * @see ProseOptions#getParagraphStyle()
+   */
   public static final Pattern getPattern() {
     return Paragraph.PARAGRAPH_PATTERN;
   }
 
+  /**
+   * Returns every Word found in the Paragraph, including any that fall outside of a Sentence,
+   * along with their offsets into the Paragraph's text.
+   *
+   * @return the Words found in the Paragraph's text.
+   */
+  final TokenList getTokens() {
+    return this.tokens;
+  }
+
   public final Integer getSentenceCount() {
     return this.sentenceCount;
   }
@@ -49,12 +106,31 @@ public final class Paragraph extends AggregateContainer {
     return this.sentences;
   }
 
+  /**
+   * Returns every Word found in the Paragraph's Sentences, in order.
+   *
+   * <p>The list is built on the first call and the same unmodifiable list is returned after
+   * that.
+   *
+   * @return an unmodifiable list of the Words found in the Paragraph's Sentences.
+   */
   public final List<Word> getWords() {
-    List<Word> words = new ArrayList<Word>();
-    this.getSentences().stream().forEach( sentence -> {
-      words.addAll(sentence.getWords());
-    });
-    return words;
+    if (this.words == null) {
+      List<Word> words = new ArrayList<Word>(this.getWordCount());
+      this.getSentences().stream().forEach( sentence -> {
+        words.addAll(sentence.getWords());
+      });
+      this.words = Collections.unmodifiableList(words);
+    }
+    return this.words;
+  }
+
+  public final Stream<Sentence> getSentenceStream() {
+    return this.getSentences().stream();
+  }
+
+  public final Stream<Word> getWordStream() {
+    return this.getWords().stream();
   }
 
 }
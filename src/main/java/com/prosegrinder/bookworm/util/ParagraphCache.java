@@ -0,0 +1,115 @@
+package com.prosegrinder.bookworm.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A cache of analyzed Paragraphs, so a Paragraph that has been seen before is not analyzed
+ * again.
+ *
+ * <p>Manuscripts repeat the same Paragraphs: manuscript headers, copyright notices, scene
+ * breaks and epigraphs. A Paragraph's analysis depends only on its text, so one with the same
+ * text as a cached Paragraph is answered with the cached Paragraph, whether it was found
+ * earlier in the same Prose or in another. Paragraphs are keyed on their text, so the hash
+ * that finds them is of their content, and equal text is checked before one is reused.
+ *
+ * <p>The cache is bounded by the number of characters of Paragraph text it holds; an analyzed
+ * Paragraph takes several times the memory of its text. The least recently used Paragraphs
+ * are evicted first. Cached Paragraphs hold their own copy of their text, so they never keep
+ * the rest of a document in memory. A cache assumes every Prose using it shares one
+ * dictionary.
+ *
+ * <p>Share a cache by giving it to ProseOptions, for example:
+ * <pre>
+ * ParagraphCache cache = new ParagraphCache(1024L * 1024);
+ * ProseOptions options = ProseOptions.getDefaultProseOptions().withParagraphCache(cache);
+ * </pre>
+ *
+ * @see ProseOptions#withParagraphCache(ParagraphCache)
+ */
+public final class ParagraphCache {
+
+  private final Cache<String, Paragraph> cache;
+
+  /**
+   * Get a new ParagraphCache using a configuration object.
+   *
+   * @param config A Typesafe Config containing necessary parameters for construction.
+   * @return a new ParagraphCache
+   */
+  public static final ParagraphCache getParagraphCache(final Config config) {
+    Long maxWeight = config.getBytes("maxWeight");
+    return new ParagraphCache(maxWeight);
+  }
+
+  public static final ParagraphCache getDefaultParagraphCache() {
+    Config config =
+        ConfigFactory.load().getConfig("com.prosegrinder.bookworm.util.paragraphCache");
+    return ParagraphCache.getParagraphCache(config);
+  }
+
+  /**
+   * Create a new ParagraphCache.
+   *
+   * @param maxWeight  most characters of Paragraph text to hold
+   */
+  public ParagraphCache(final Long maxWeight) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumWeight(maxWeight)
+        .weigher( (String text, Paragraph paragraph) -> text.length())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the cached Paragraph with a text, analyzing and caching it if there is none.
+   *
+   * @param text    a string of text representing a complete paragraph
+   * @param normalizedText  the normalized form of text
+   * @param dictionary  dictionary used for word reference (cache)
+   * @return a Paragraph for text
+   */
+  final Paragraph getParagraph(final CharSequence text, final CharSequence normalizedText,
+      final Dictionary2 dictionary) {
+    final String key = text.toString();
+    try {
+      return this.cache.get(key,
+          () -> new Paragraph(key, normalizedText.toString(), dictionary));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new IllegalStateException("Could not analyze paragraph", e.getCause());
+    }
+  }
+
+  /**
+   * Returns how often Paragraphs were found in the cache, and how often they were analyzed.
+   *
+   * @return a snapshot of the cache's statistics
+   */
+  public final CacheStats getStats() {
+    return this.cache.stats();
+  }
+
+  /**
+   * Returns the number of Paragraphs in the cache.
+   *
+   * @return the number of cached Paragraphs
+   */
+  public final Long getSize() {
+    return this.cache.size();
+  }
+
+  /**
+   * Discards every Paragraph in the cache.
+   */
+  public final void invalidateAll() {
+    this.cache.invalidateAll();
+  }
+
+}
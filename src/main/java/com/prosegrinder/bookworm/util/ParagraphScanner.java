@@ -0,0 +1,184 @@
+package com.prosegrinder.bookworm.util;
+
+import com.prosegrinder.bookworm.enums.ParagraphStyle;
+
+import java.util.Arrays;
+
+/**
+ * Finds Paragraphs in a text in a single pass over its line feeds, without regular
+ * expressions.
+ *
+ * <p>Lines end at a line feed, and a carriage return just before the line feed is not part of
+ * the line, so texts with either line ending give the same Paragraphs. A blank line is one
+ * with nothing but whitespace. Blank lines never make Paragraphs: they are passed over by
+ * offset alone, so they cost nothing.
+ *
+ * <p>No other character ends a line: a carriage return that is not followed by a line feed,
+ * a next line (U+0085), a line separator (U+2028) or a paragraph separator (U+2029) stays
+ * within its Paragraph. Paragraph's old pattern, {@code .*(?=\n|$)}, could not match across
+ * those characters either, and silently dropped the text before them on the line; that text
+ * is now part of the Paragraph.
+ *
+ * <p>With {@link ParagraphStyle#LINE}, every line that is not blank is a Paragraph. With
+ * {@link ParagraphStyle#BLANK_LINE}, a Paragraph runs from the first line after a blank line
+ * to the last line before the next one, taking the line breaks between them with it.
+ *
+ * @see ProseOptions#getParagraphStyle()
+ */
+final class ParagraphScanner {
+
+  private ParagraphScanner() {
+  }
+
+  /**
+   * Finds the start and end offset of every Paragraph in a region of the text.
+   *
+   * <p>The region should begin and end at Paragraph boundaries (see
+   * {@link #findBoundaryBefore(CharSequence, int, ParagraphStyle)} and
+   * {@link #findBoundaryAfter(CharSequence, int, ParagraphStyle)}), so that it gives exactly
+   * the Paragraphs the entire text would within that region.
+   *
+   * @param text  text to search
+   * @param start  offset of the start of the region
+   * @param end  offset of the end of the region
+   * @param style  how the Paragraphs of the text are laid out
+   * @return start and end offset pairs of every Paragraph
+   */
+  static int[] findParagraphSpans(final CharSequence text, final int start, final int end,
+      final ParagraphStyle style) {
+    int[] spans = new int[16];
+    int count = 0;
+    int paragraphStart = -1;
+    int paragraphEnd = -1;
+    int position = start;
+    while (position < end) {
+      final int lineEnd = ParagraphScanner.findLineEnd(text, position, end);
+      final int contentEnd = ParagraphScanner.trimLineBreak(text, position, lineEnd);
+      final boolean blank = ParagraphScanner.isBlank(text, position, contentEnd);
+      if (!blank) {
+        if (paragraphStart < 0) {
+          paragraphStart = position;
+        }
+        paragraphEnd = contentEnd;
+      }
+      if (paragraphStart >= 0
+          && (style == ParagraphStyle.LINE || blank || lineEnd == end)) {
+        if (count == spans.length) {
+          spans = Arrays.copyOf(spans, spans.length * 2);
+        }
+        spans[count++] = paragraphStart;
+        spans[count++] = paragraphEnd;
+        paragraphStart = -1;
+      }
+      position = lineEnd;
+    }
+    return Arrays.copyOf(spans, count);
+  }
+
+  /**
+   * Returns the last Paragraph boundary at or before an offset: the start of its line, or
+   * with {@link ParagraphStyle#BLANK_LINE}, the start of the line after the last blank line
+   * before it. Only the text before the offset's line is read.
+   *
+   * @param text  text to search
+   * @param offset  offset into the text
+   * @param style  how the Paragraphs of the text are laid out
+   * @return offset of the boundary
+   */
+  static int findBoundaryBefore(final CharSequence text, final int offset,
+      final ParagraphStyle style) {
+    int boundary = ParagraphScanner.findLineStart(text, offset);
+    if (style == ParagraphStyle.BLANK_LINE) {
+      while (boundary > 0) {
+        final int lineStart = ParagraphScanner.findLineStart(text, boundary - 1);
+        if (ParagraphScanner.isBlank(text, lineStart, boundary)) {
+          break;
+        }
+        boundary = lineStart;
+      }
+    }
+    return boundary;
+  }
+
+  /**
+   * Returns the first Paragraph boundary after an offset: the end of its line, or with
+   * {@link ParagraphStyle#BLANK_LINE}, the end of the first blank line after it. Only the text
+   * after the offset's line is read.
+   *
+   * @param text  text to search
+   * @param offset  offset into the text
+   * @param style  how the Paragraphs of the text are laid out
+   * @return offset of the boundary
+   */
+  static int findBoundaryAfter(final CharSequence text, final int offset,
+      final ParagraphStyle style) {
+    int boundary = ParagraphScanner.findLineEnd(text, offset, text.length());
+    if (style == ParagraphStyle.BLANK_LINE) {
+      while (boundary < text.length()) {
+        final int lineEnd = ParagraphScanner.findLineEnd(text, boundary, text.length());
+        final boolean blank = ParagraphScanner.isBlank(text, boundary, lineEnd);
+        boundary = lineEnd;
+        if (blank) {
+          break;
+        }
+      }
+    }
+    return boundary;
+  }
+
+  /**
+   * Returns the offset just past the line feed that ends the line at an offset.
+   *
+   * @param text  text to search
+   * @param offset  offset into the text
+   * @param end  offset of the end of the region being searched
+   * @return offset just past the end of the line, or end if no line feed comes before it
+   */
+  private static int findLineEnd(final CharSequence text, final int offset, final int end) {
+    for (int i = offset; i < end; i++) {
+      if (text.charAt(i) == '\n') {
+        return i + 1;
+      }
+    }
+    return end;
+  }
+
+  private static int findLineStart(final CharSequence text, final int offset) {
+    int start = offset;
+    while (start > 0 && text.charAt(start - 1) != '\n') {
+      start--;
+    }
+    return start;
+  }
+
+  /**
+   * Returns the end of a line's content, leaving out the line feed and any carriage return
+   * before it.
+   *
+   * @param text  text to search
+   * @param lineStart  offset of the start of the line
+   * @param lineEnd  offset just past the end of the line
+   * @return offset of the end of the line's content
+   */
+  private static int trimLineBreak(final CharSequence text, final int lineStart,
+      final int lineEnd) {
+    int end = lineEnd;
+    if (end > lineStart && text.charAt(end - 1) == '\n') {
+      end--;
+    }
+    if (end > lineStart && text.charAt(end - 1) == '\r') {
+      end--;
+    }
+    return end;
+  }
+
+  private static boolean isBlank(final CharSequence text, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (!Character.isWhitespace(text.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
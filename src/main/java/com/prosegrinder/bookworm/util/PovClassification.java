@@ -0,0 +1,60 @@
+package com.prosegrinder.bookworm.util;
+
+import com.prosegrinder.bookworm.enums.PovType;
+
+/**
+ * The Point of View a PovClassifier found, with how confident it is and how much of the text
+ * it read to find it.
+ *
+ * @see PovClassifier
+ */
+public final class PovClassification {
+
+  private final PovType pov;
+  private final Double confidence;
+  private final Integer charactersRead;
+  private final Integer firstPersonIndicatorCount;
+  private final Integer secondPersonIndicatorCount;
+  private final Integer thirdPersonIndicatorCount;
+
+  PovClassification(final PovType pov, final Double confidence, final Integer charactersRead,
+      final int[] indicatorCounts) {
+    this.pov = pov;
+    this.confidence = confidence;
+    this.charactersRead = charactersRead;
+    this.firstPersonIndicatorCount = indicatorCounts[0];
+    this.secondPersonIndicatorCount = indicatorCounts[1];
+    this.thirdPersonIndicatorCount = indicatorCounts[2];
+  }
+
+  public final PovType getPov() {
+    return this.pov;
+  }
+
+  /**
+   * Returns how confident the classifier is that the Point of View is the one a Prose of the
+   * entire text would give, from 0 to 1.
+   *
+   * @return 1.0 when the Point of View is certain, otherwise the fraction of the text read
+   */
+  public final Double getConfidence() {
+    return this.confidence;
+  }
+
+  public final Integer getCharactersRead() {
+    return this.charactersRead;
+  }
+
+  public final Integer getFirstPersonIndicatorCount() {
+    return this.firstPersonIndicatorCount;
+  }
+
+  public final Integer getSecondPersonIndicatorCount() {
+    return this.secondPersonIndicatorCount;
+  }
+
+  public final Integer getThirdPersonIndicatorCount() {
+    return this.thirdPersonIndicatorCount;
+  }
+
+}
@@ -0,0 +1,153 @@
+package com.prosegrinder.bookworm.util;
+
+import com.prosegrinder.bookworm.enums.PovType;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import java.util.regex.Matcher;
+
+/**
+ * Finds the Point of View of a text without analyzing all of it.
+ *
+ * <p>Prose decides the Point of View from the point of view words found in narrative: first
+ * person if there are any first person words, otherwise second person if there are any second
+ * person words, otherwise third person if there are any third person words. A PovClassifier
+ * decides it the same way, but reads the text a line at a time, finding dialogue as it goes
+ * and looking each narrative word up in the point of view word sets, without building Words,
+ * Sentences or Paragraphs.
+ *
+ * <p>The first first person word in narrative settles the Point of View, so the classifier
+ * stops there with a confidence of 1. Any other answer could still be overturned by words
+ * later in the text, so its confidence is the fraction of the text read so far. The
+ * classifier stops as soon as its confidence reaches the threshold. With a threshold of 1,
+ * the default, it only stops early for first person and otherwise reads the entire text,
+ * always giving the same Point of View as Prose. Lower thresholds read less of the text, at
+ * the risk of a different answer.
+ *
+ * @see Prose#getPov()
+ */
+public final class PovClassifier {
+
+  private final Double threshold;
+
+  /**
+   * Get a new PovClassifier using a configuration object.
+   *
+   * @param config A Typesafe Config containing necessary parameters for construction.
+   * @return a new PovClassifier
+   */
+  public static final PovClassifier getPovClassifier(final Config config) {
+    Double threshold = config.getDouble("threshold");
+    return new PovClassifier(threshold);
+  }
+
+  public static final PovClassifier getDefaultPovClassifier() {
+    Config config =
+        ConfigFactory.load().getConfig("com.prosegrinder.bookworm.util.povClassifier");
+    return PovClassifier.getPovClassifier(config);
+  }
+
+  /**
+   * Create a new PovClassifier.
+   *
+   * @param threshold  confidence at which to stop reading, from 0 to 1
+   */
+  public PovClassifier(final Double threshold) {
+    if (!(threshold >= 0.0 && threshold <= 1.0)) {
+      throw new IllegalArgumentException("threshold must be from 0 to 1: " + threshold);
+    }
+    this.threshold = threshold;
+  }
+
+  public final Double getThreshold() {
+    return this.threshold;
+  }
+
+  /**
+   * Finds the Point of View of a text, reading only as much of it as the threshold requires.
+   *
+   * @param text  a string of text representing a work of prose fiction
+   * @return the Point of View with its confidence
+   */
+  public final PovClassification classify(final CharSequence text) {
+    final int length = text.length();
+    final int[] indicatorCounts = new int[3];
+    int lineStart = 0;
+    while (lineStart < length) {
+      // Dialogue never runs past a line feed, so each line is scanned on its own.
+      int lineEnd = lineStart;
+      while (lineEnd < length && text.charAt(lineEnd) != '\n') {
+        lineEnd++;
+      }
+      if (lineEnd < length) {
+        lineEnd++;
+      }
+      final int[] dialogueSpans = DialogueScanner.findDialogueSpans(text, lineStart, lineEnd);
+      int narrativeStart = lineStart;
+      for (int i = 0; i <= dialogueSpans.length; i += 2) {
+        final int narrativeEnd = (i < dialogueSpans.length) ? dialogueSpans[i] : lineEnd;
+        final int firstPersonEnd =
+            PovClassifier.countIndicators(text, narrativeStart, narrativeEnd, indicatorCounts);
+        if (firstPersonEnd >= 0) {
+          return new PovClassification(PovType.FIRST, 1.0, firstPersonEnd, indicatorCounts);
+        }
+        if (i < dialogueSpans.length) {
+          narrativeStart = dialogueSpans[i + 1];
+        }
+      }
+      lineStart = lineEnd;
+      final double confidence = (double) lineStart / length;
+      if (confidence >= this.threshold && lineStart < length) {
+        return new PovClassification(PovClassifier.decide(indicatorCounts), confidence,
+            lineStart, indicatorCounts);
+      }
+    }
+    return new PovClassification(PovClassifier.decide(indicatorCounts), 1.0, length,
+        indicatorCounts);
+  }
+
+  /**
+   * Counts the point of view words in a piece of narrative, stopping at the first first person
+   * word.
+   *
+   * @param text  the text being classified
+   * @param start  offset of the start of the narrative
+   * @param end  offset of the end of the narrative
+   * @param indicatorCounts  first, second and third person counts to add to
+   * @return offset just past the first first person word, or -1 if there is none
+   */
+  private static int countIndicators(final CharSequence text, final int start, final int end,
+      final int[] indicatorCounts) {
+    if (start >= end) {
+      return -1;
+    }
+    final Matcher wordMatcher =
+        Word.getPattern().matcher(TextNormalizer.normalize(text.subSequence(start, end)));
+    while (wordMatcher.find()) {
+      final PovType pov = Word.POV_INDEX.get(TextNormalizer.foldApostrophes(wordMatcher.group()));
+      if (pov == PovType.FIRST) {
+        indicatorCounts[0]++;
+        return start + wordMatcher.end();
+      } else if (pov == PovType.SECOND) {
+        indicatorCounts[1]++;
+      } else if (pov == PovType.THIRD) {
+        indicatorCounts[2]++;
+      }
+    }
+    return -1;
+  }
+
+  private static PovType decide(final int[] indicatorCounts) {
+    if (indicatorCounts[0] > 0) {
+      return PovType.FIRST;
+    } else if (indicatorCounts[1] > 0) {
+      return PovType.SECOND;
+    } else if (indicatorCounts[2] > 0) {
+      return PovType.THIRD;
+    } else {
+      return PovType.UNKNOWN;
+    }
+  }
+
+}
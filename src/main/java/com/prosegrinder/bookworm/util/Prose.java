@@ -2,13 +2,29 @@ package com.prosegrinder.bookworm.util;
 
 import com.prosegrinder.bookworm.enums.PovType;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * The top-level class representing a single work of prose fiction. The underlying text
@@ -19,76 +35,695 @@ import java.util.regex.Pattern;
  */
 public final class Prose extends AggregateContainer {
 
+  private final ProseOptions options;
   private final List<Paragraph> paragraphs = new ArrayList<Paragraph>();
+  private final int[] paragraphStarts;
+  private final List<Chapter> chapters;
   private final List<DialogueFragment> dialogueFragments
       = new ArrayList<DialogueFragment>();
-  private final Map<Word, Integer> dialogueWordFrequency = new HashMap<Word, Integer>();
+  private final int[] dialogueSpans;
+  private final Map<Word, Integer> dialogueWordFrequency;
   private final List<NarrativeFragment> narrativeFragments
       = new ArrayList<NarrativeFragment>();
-  private final Map<Word, Integer> narrativeWordFrequency = new HashMap<Word, Integer>();
-  private final Map<Word, Integer> povWordFrequency = new HashMap<Word, Integer>();
+  private final int[] narrativeSpans;
+  private final Map<Word, Integer> narrativeWordFrequency;
+  private Map<Word, Integer> povWordFrequency;
+  private Map<Word, Integer> firstPersonWordFrequency;
+  private Map<Word, Integer> secondPersonWordFrequency;
+  private Map<Word, Integer> thirdPersonWordFrequency;
   
-  private final Map<Word, Integer> firstPersonIndicatorFrequency = new HashMap<Word, Integer>();
-  private final Map<Word, Integer> secondPersonIndicatorFrequency = new HashMap<Word, Integer>();
-  private final Map<Word, Integer> thirdPersonIndicatorFrequency = new HashMap<Word, Integer>();
-  private final Map<Word, Integer> povIndicatorFrequency = new HashMap<Word, Integer>();
+  private final Map<Word, Integer> firstPersonIndicatorFrequency;
+  private final Map<Word, Integer> secondPersonIndicatorFrequency;
+  private final Map<Word, Integer> thirdPersonIndicatorFrequency;
+  private final Map<Word, Integer> povIndicatorFrequency;
   
   private final Integer sentenceCount;
   private final Integer paragraphCount;
-  private final Integer dialogueSyllableCount;
-  private final Integer dialogueWordCount;
-  private final Integer dialogueFirstPersonWordCount;
-  private final Integer dialogueSecondPersonWordCount;
-  private final Integer dialogueThirdPersonWordCount;
-  private final Integer narrativeSyllableCount;
-  private final Integer narrativeWordCount;
-  private final Integer narrativeFirstPersonWordCount;
-  private final Integer narrativeSecondPersonWordCount;
-  private final Integer narrativeThirdPersonWordCount;
+  private volatile List<Section> sections;
+  private volatile List<Sentence> sentences;
+  private final SentenceIndex sentenceIndex;
+  private volatile List<Word> words;
+  private Integer dialogueSyllableCount;
+  private Integer dialogueWordCount;
+  private Integer dialogueFirstPersonWordCount;
+  private Integer dialogueSecondPersonWordCount;
+  private Integer dialogueThirdPersonWordCount;
+  private Integer narrativeSyllableCount;
+  private Integer narrativeWordCount;
+  private Integer narrativeFirstPersonWordCount;
+  private Integer narrativeSecondPersonWordCount;
+  private Integer narrativeThirdPersonWordCount;
   
-  private final Integer povIndicatorCount;
-  private final Integer firstPersonIndicatorCount;
-  private final Integer secondPersonIndicatorCount;
-  private final Integer thirdPersonIndicatorCount;
+  private Integer povIndicatorCount;
+  private Integer firstPersonIndicatorCount;
+  private Integer secondPersonIndicatorCount;
+  private Integer thirdPersonIndicatorCount;
 
   /**
    * Returns a new Prose object from a string.
    *
-   * <p>Prose is currently considered the top level WordContainer. The String is not validated
+   * <p>Prose is currently considered the top level WordContainer. The text is not validated
    * as it is assumed to be an arbitrary block of text representing some kind of story.
+   *
+   * <p>Any CharSequence may be used. Paragraphs and Sentences are created from subsequences of
+   * the text, so a CharBuffer (for example, one returned by {@link #fromFile(Path, Charset,
+   * Dictionary2)}) is analyzed without building a String of the entire text.
+   *
+   * <p>The text is tokenized in a single pass. Each Word is resolved once, by the Paragraph and
+   * Sentence it belongs to, and DialogueFragments and NarrativeFragments take their Words from
+   * the Paragraphs they overlap.
    * 
    * @param text    a string of text representing a complete work of prose fiction
    * @param dictionary  dictionary used for word reference (cache)
    */
+  public Prose(final CharSequence text, final Dictionary2 dictionary) {
+    this(text, dictionary, ProseOptions.getDefaultProseOptions());
+  }
+
+  /**
+   * Same as the CharSequence version, kept so code compiled against this String signature
+   * still links.
+   *
+   * @param text    a string of text representing a complete work of prose fiction
+   * @param dictionary  dictionary used for word reference (cache)
+   */
   public Prose(final String text, final Dictionary2 dictionary) {
-    
-    this.setText(text);
+    this((CharSequence) text, dictionary);
+  }
+
+  /**
+   * Returns a new Prose object from a string, broken into Chapters and Sections as options
+   * describe.
+   *
+   * <p>Paragraphs are independent of one another, so they are analyzed in parallel. Sections
+   * are then aggregated from their Paragraphs and Chapters from their Sections, in parallel,
+   * and the Prose is aggregated from its Chapters.
+   *
+   * @param text    a string of text representing a complete work of prose fiction
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param options  options for finding Chapters and Sections
+   */
+  public Prose(final CharSequence text, final Dictionary2 dictionary,
+      final ProseOptions options) {
+    this(text, dictionary, options, () -> { });
+  }
+
+  /**
+   * Returns a new Prose object from a string, running a checkpoint before each Paragraph and
+   * each fragment is analyzed. The checkpoint stops the analysis by throwing.
+   *
+   * @param text    a string of text representing a complete work of prose fiction
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param options  options for finding Chapters and Sections
+   * @param checkpoint  run between Paragraphs and between fragments, from any thread
+   * @see ProseAnalyzer
+   */
+  Prose(final CharSequence text, final Dictionary2 dictionary, final ProseOptions options,
+      final Runnable checkpoint) {
+    this(text, TextNormalizer.normalize(text), null, dictionary, options, checkpoint);
+  }
+
+  /**
+   * Returns a new Prose object from a string and its normalized form, taking any Paragraphs
+   * that have already been analyzed rather than analyzing them again.
+   *
+   * @param text    a string of text representing a complete work of prose fiction
+   * @param normalizedText  the normalized form of text
+   * @param analyzedParagraphs  the Paragraphs at the offsets ParagraphScanner finds in text,
+   *     in order, with null for any not yet analyzed; or null if none have been
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param options  options for finding Chapters and Sections
+   * @param checkpoint  run between Paragraphs and between fragments, from any thread
+   * @see ProsePublisher
+   */
+  Prose(final CharSequence text, final CharSequence normalizedText,
+      final Paragraph[] analyzedParagraphs, final Dictionary2 dictionary,
+      final ProseOptions options, final Runnable checkpoint) {
+
+    // Normalize once; every container takes its normalized text from this.
+    this.setText(text, normalizedText);
     this.setDictionary(dictionary);
-    Matcher paragraphMatcher = Paragraph.getPattern().matcher(text);
-    while (paragraphMatcher.find()) {
-      Paragraph paragraph = new Paragraph(paragraphMatcher.group(), this.getDictionary());
-      this.paragraphs.add(paragraph);
-    }
-    List<Container> containers = new ArrayList<Container>();
-    paragraphs.stream().forEach( paragraph -> {
-      containers.add((Container) paragraph);
+    this.options = options;
+    final int[] paragraphSpans = ParagraphScanner.findParagraphSpans(
+        text, 0, text.length(), options.getParagraphStyle());
+    this.paragraphStarts = new int[paragraphSpans.length / 2];
+    final Paragraph[] paragraphs = (analyzedParagraphs != null)
+        ? analyzedParagraphs.clone() : new Paragraph[this.paragraphStarts.length];
+    IntStream.range(0, paragraphs.length).parallel().forEach( i -> {
+      this.paragraphStarts[i] = paragraphSpans[2 * i];
+      if (paragraphs[i] == null) {
+        checkpoint.run();
+        paragraphs[i] = Prose.newParagraph(text, normalizedText, paragraphSpans[2 * i],
+            paragraphSpans[2 * i + 1], this.getDictionary(), options);
+      }
     });
-    this.aggregateContainers(containers);
-    this.sentenceCount = this.paragraphs.stream()
-        .mapToInt( paragraph -> paragraph.getSentenceCount())
+    this.paragraphs.addAll(Arrays.asList(paragraphs));
+    this.chapters = this.findChapters(null, 0, 0);
+    this.aggregateContainers(this.chapters);
+    this.indexPovWords();
+    this.sentenceCount = this.chapters.stream()
+        .mapToInt( chapter -> chapter.getSentenceCount())
         .sum();
     this.paragraphCount = this.paragraphs.size();
 
-    // Process Dialogue
-    final Pattern dialoguePattern = DialogueFragment.getPattern();
-    Matcher dialogueMatcher = dialoguePattern.matcher(
-        WordContainer.convertSmartQuotes(this.getInitialText())
-    );
-    while (dialogueMatcher.find()) {
-      this.dialogueFragments.add(
-          new DialogueFragment(dialogueMatcher.group(), this.getDictionary())
-      );
+    // Dialogue slices out independently of paragraphs, so find it over the entire text.
+    this.dialogueSpans = DialogueScanner.findDialogueSpansParallel(text);
+    this.narrativeSpans =
+        DialogueScanner.findNarrativeSpans(this.dialogueSpans, text.length());
+    final DialogueFragment[] dialogueFragments =
+        new DialogueFragment[this.dialogueSpans.length / 2];
+    IntStream.range(0, dialogueFragments.length).parallel().forEach( i -> {
+      checkpoint.run();
+      dialogueFragments[i] =
+          this.newDialogueFragment(this.dialogueSpans[2 * i], this.dialogueSpans[2 * i + 1]);
+    });
+    this.dialogueFragments.addAll(Arrays.asList(dialogueFragments));
+    final NarrativeFragment[] narrativeFragments =
+        new NarrativeFragment[this.narrativeSpans.length / 2];
+    IntStream.range(0, narrativeFragments.length).parallel().forEach( i -> {
+      checkpoint.run();
+      narrativeFragments[i] = this.newNarrativeFragment(
+          this.narrativeSpans[2 * i], this.narrativeSpans[2 * i + 1]);
+    });
+    this.narrativeFragments.addAll(Arrays.asList(narrativeFragments));
+    this.dialogueWordFrequency = new HashMap<Word, Integer>();
+    this.dialogueFragments.stream().forEach( fragment -> {
+      AggregateContainer.addWordFrequency(
+          this.dialogueWordFrequency, fragment.getWordFrequency(), 1);
+    });
+    this.narrativeWordFrequency = new HashMap<Word, Integer>();
+    this.narrativeFragments.stream().forEach( fragment -> {
+      AggregateContainer.addWordFrequency(
+          this.narrativeWordFrequency, fragment.getWordFrequency(), 1);
+    });
+    this.firstPersonIndicatorFrequency = new HashMap<Word, Integer>();
+    this.secondPersonIndicatorFrequency = new HashMap<Word, Integer>();
+    this.thirdPersonIndicatorFrequency = new HashMap<Word, Integer>();
+    this.povIndicatorFrequency = new HashMap<Word, Integer>();
+    this.indexPovIndicators(this.narrativeWordFrequency.keySet());
+    this.countFragments();
+    this.sentenceIndex = new SentenceIndex(this.getSentences());
+  }
+
+  /**
+   * Returns a new Prose object for a revised text by re-analyzing only what the revision
+   * changed.
+   *
+   * <p>The edit is widened to whole Paragraphs, which are always whole lines. Dialogue always
+   * ends at a line break, so Paragraphs and fragments outside of those lines are reused as they
+   * are, and counts and word frequencies are patched rather than aggregated again. Within the
+   * edited lines, a Paragraph whose text is unchanged is also reused.
+   *
+   * @param previous  the Prose being revised
+   * @param text  the revised text
+   * @param start  offset of the first changed character, the same in both texts
+   * @param previousEnd  offset just past the last changed character of the previous text
+   * @param end  offset just past the last changed character of the revised text
+   */
+  private Prose(final Prose previous, final CharSequence text, final int start,
+      final int previousEnd, final int end) {
+
+    this.setText(text, TextNormalizer.revise(
+        previous.getNormalizedCharSequence(), text, start, previousEnd, end));
+    this.setDictionary(previous.getDictionary());
+    this.options = previous.options;
+    final CharSequence previousText = previous.getInitialCharSequence();
+    final int shift = end - previousEnd;
+    // Both boundaries are found in text the edit left unchanged, so they hold in both texts.
+    final int windowStart = ParagraphScanner.findBoundaryBefore(
+        previousText, start, this.options.getParagraphStyle());
+    final int previousWindowEnd = ParagraphScanner.findBoundaryAfter(
+        previousText, previousEnd, this.options.getParagraphStyle());
+    final int windowEnd = previousWindowEnd + shift;
+
+    // Paragraphs: reuse those outside the edited lines, and any inside them whose text is
+    // unchanged.
+    final int first = previous.findParagraph(windowStart);
+    final int last = previous.findParagraph(previousWindowEnd);
+    final Map<String, Deque<Paragraph>> previousParagraphs =
+        new HashMap<String, Deque<Paragraph>>();
+    for (Paragraph paragraph : previous.paragraphs.subList(first, last)) {
+      previousParagraphs.computeIfAbsent(paragraph.getInitialText(),
+          key -> new ArrayDeque<Paragraph>()).add(paragraph);
+    }
+    final List<Paragraph> addedParagraphs = new ArrayList<Paragraph>();
+    int[] paragraphStarts = Arrays.copyOf(previous.paragraphStarts,
+        previous.paragraphStarts.length + 16);
+    this.paragraphs.addAll(previous.paragraphs.subList(0, first));
+    final int[] paragraphSpans = ParagraphScanner.findParagraphSpans(
+        text, windowStart, windowEnd, this.options.getParagraphStyle());
+    for (int i = 0; i < paragraphSpans.length; i += 2) {
+      CharSequence paragraphText = text.subSequence(paragraphSpans[i], paragraphSpans[i + 1]);
+      Deque<Paragraph> unchanged = previousParagraphs.get(paragraphText.toString());
+      Paragraph paragraph = (unchanged != null) ? unchanged.poll() : null;
+      if (paragraph == null) {
+        paragraph = Prose.newParagraph(text, this.getNormalizedCharSequence(),
+            paragraphSpans[i], paragraphSpans[i + 1], this.getDictionary(), this.options);
+        addedParagraphs.add(paragraph);
+      }
+      if (this.paragraphs.size() == paragraphStarts.length) {
+        paragraphStarts = Arrays.copyOf(paragraphStarts, paragraphStarts.length * 2);
+      }
+      paragraphStarts[this.paragraphs.size()] = paragraphSpans[i];
+      this.paragraphs.add(paragraph);
+    }
+    final List<Paragraph> removedParagraphs = new ArrayList<Paragraph>();
+    previousParagraphs.values().forEach(removedParagraphs::addAll);
+    final int suffixStart = this.paragraphs.size();
+    this.paragraphs.addAll(previous.paragraphs.subList(last, previous.paragraphs.size()));
+    paragraphStarts = Arrays.copyOf(paragraphStarts, this.paragraphs.size());
+    for (int i = last; i < previous.paragraphs.size(); i++) {
+      paragraphStarts[suffixStart + i - last] = previous.paragraphStarts[i] + shift;
+    }
+    this.paragraphStarts = paragraphStarts;
+    this.chapters = this.findChapters(previous, windowStart, windowEnd);
+    this.aggregateContainers(previous, removedParagraphs, addedParagraphs);
+    this.indexPovWords();
+    this.sentenceCount = previous.sentenceCount
+        - removedParagraphs.stream().mapToInt( paragraph -> paragraph.getSentenceCount()).sum()
+        + addedParagraphs.stream().mapToInt( paragraph -> paragraph.getSentenceCount()).sum();
+    this.paragraphCount = this.paragraphs.size();
+
+    // Dialogue: only the dialogue within the edited lines can change.
+    final int[] windowDialogueSpans =
+        DialogueScanner.findDialogueSpans(text, windowStart, windowEnd);
+    int dialogueFirst = 0;
+    while (dialogueFirst < previous.dialogueSpans.length
+        && previous.dialogueSpans[dialogueFirst] < windowStart) {
+      dialogueFirst += 2;
+    }
+    int dialogueLast = dialogueFirst;
+    while (dialogueLast < previous.dialogueSpans.length
+        && previous.dialogueSpans[dialogueLast] < previousWindowEnd) {
+      dialogueLast += 2;
+    }
+    this.dialogueSpans = new int[previous.dialogueSpans.length
+        - (dialogueLast - dialogueFirst) + windowDialogueSpans.length];
+    System.arraycopy(previous.dialogueSpans, 0, this.dialogueSpans, 0, dialogueFirst);
+    System.arraycopy(windowDialogueSpans, 0, this.dialogueSpans, dialogueFirst,
+        windowDialogueSpans.length);
+    for (int i = dialogueLast; i < previous.dialogueSpans.length; i++) {
+      this.dialogueSpans[dialogueFirst + windowDialogueSpans.length + i - dialogueLast] =
+          previous.dialogueSpans[i] + shift;
+    }
+    this.dialogueFragments.addAll(previous.dialogueFragments.subList(0, dialogueFirst / 2));
+    final List<DialogueFragment> addedDialogue = new ArrayList<DialogueFragment>();
+    for (int i = 0; i < windowDialogueSpans.length; i += 2) {
+      addedDialogue.add(
+          this.newDialogueFragment(windowDialogueSpans[i], windowDialogueSpans[i + 1]));
+    }
+    this.dialogueFragments.addAll(addedDialogue);
+    this.dialogueFragments.addAll(previous.dialogueFragments.subList(dialogueLast / 2,
+        previous.dialogueFragments.size()));
+    this.dialogueWordFrequency = new HashMap<Word, Integer>(previous.dialogueWordFrequency);
+    previous.dialogueFragments.subList(dialogueFirst / 2, dialogueLast / 2).forEach(
+        fragment -> AggregateContainer.addWordFrequency(
+            this.dialogueWordFrequency, fragment.getWordFrequency(), -1));
+    addedDialogue.forEach( fragment -> AggregateContainer.addWordFrequency(
+        this.dialogueWordFrequency, fragment.getWordFrequency(), 1));
+
+    // Narrative: reuse every piece that lies entirely outside of the edited lines.
+    this.narrativeSpans =
+        DialogueScanner.findNarrativeSpans(this.dialogueSpans, text.length());
+    final boolean[] reused = new boolean[previous.narrativeFragments.size()];
+    final List<NarrativeFragment> addedNarrative = new ArrayList<NarrativeFragment>();
+    for (int i = 0; i < this.narrativeSpans.length; i += 2) {
+      final int narrativeStart = this.narrativeSpans[i];
+      final int narrativeEnd = this.narrativeSpans[i + 1];
+      int index = -1;
+      if (narrativeEnd <= windowStart) {
+        index = previous.findNarrative(narrativeStart, narrativeEnd);
+      } else if (narrativeStart >= windowEnd) {
+        index = previous.findNarrative(narrativeStart - shift, narrativeEnd - shift);
+      }
+      if (index >= 0) {
+        reused[index] = true;
+        this.narrativeFragments.add(previous.narrativeFragments.get(index));
+      } else {
+        NarrativeFragment fragment = this.newNarrativeFragment(narrativeStart, narrativeEnd);
+        addedNarrative.add(fragment);
+        this.narrativeFragments.add(fragment);
+      }
+    }
+    final List<NarrativeFragment> removedNarrative = new ArrayList<NarrativeFragment>();
+    for (int i = 0; i < reused.length; i++) {
+      if (!reused[i]) {
+        removedNarrative.add(previous.narrativeFragments.get(i));
+      }
+    }
+    this.narrativeWordFrequency = new HashMap<Word, Integer>(previous.narrativeWordFrequency);
+    final Set<Word> changedNarrativeWords = new HashSet<Word>();
+    removedNarrative.forEach( fragment -> {
+      AggregateContainer.addWordFrequency(
+          this.narrativeWordFrequency, fragment.getWordFrequency(), -1);
+      changedNarrativeWords.addAll(fragment.getUniqueWords());
+    });
+    addedNarrative.forEach( fragment -> {
+      AggregateContainer.addWordFrequency(
+          this.narrativeWordFrequency, fragment.getWordFrequency(), 1);
+      changedNarrativeWords.addAll(fragment.getUniqueWords());
+    });
+    this.firstPersonIndicatorFrequency =
+        new HashMap<Word, Integer>(previous.firstPersonIndicatorFrequency);
+    this.secondPersonIndicatorFrequency =
+        new HashMap<Word, Integer>(previous.secondPersonIndicatorFrequency);
+    this.thirdPersonIndicatorFrequency =
+        new HashMap<Word, Integer>(previous.thirdPersonIndicatorFrequency);
+    this.povIndicatorFrequency = new HashMap<Word, Integer>(previous.povIndicatorFrequency);
+    this.indexPovIndicators(changedNarrativeWords);
+    this.countFragments();
+    this.sentenceIndex = new SentenceIndex(this.getSentences());
+  }
+
+  /**
+   * Returns a new Prose object from a text file, decoding it with the given character set.
+   *
+   * <p>The file is memory-mapped and decoded straight into a CharBuffer, which is analyzed
+   * in place. No String of the entire text is built.
+   *
+   * @param path    path to a text file representing a complete work of prose fiction
+   * @param charset character set used to decode the file
+   * @param dictionary  dictionary used for word reference (cache)
+   * @return a new Prose object representing the contents of the file
+   * @throws IOException if the file cannot be read
+   */
+  public static final Prose fromFile(final Path path, final Charset charset,
+      final Dictionary2 dictionary) throws IOException {
+    return Prose.fromFile(path, charset, dictionary, ProseOptions.getDefaultProseOptions());
+  }
+
+  /**
+   * Returns a new Prose object from a text file, decoding it with the given character set and
+   * analyzing it with the given options.
+   *
+   * @param path    path to a text file representing a complete work of prose fiction
+   * @param charset character set used to decode the file
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param options  options for finding Paragraphs, Chapters and Sections
+   * @return a new Prose object representing the contents of the file
+   * @throws IOException if the file cannot be read
+   * @see #fromFile(Path, Charset, Dictionary2)
+   */
+  public static final Prose fromFile(final Path path, final Charset charset,
+      final Dictionary2 dictionary, final ProseOptions options) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      CharBuffer chars = charset.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE)
+          .decode(bytes);
+      return new Prose(chars, dictionary, options);
+    }
+  }
+
+  /**
+   * Returns a new Prose object from a UTF-8 encoded text file.
+   *
+   * @param path    path to a text file representing a complete work of prose fiction
+   * @param dictionary  dictionary used for word reference (cache)
+   * @return a new Prose object representing the contents of the file
+   * @throws IOException if the file cannot be read
+   * @see #fromFile(Path, Charset, Dictionary2)
+   */
+  public static final Prose fromFile(final Path path, final Dictionary2 dictionary)
+      throws IOException {
+    return Prose.fromFile(path, StandardCharsets.UTF_8, dictionary);
+  }
+
+  /**
+   * Returns a new Prose object for a revised version of this Prose's text.
+   *
+   * <p>Only the lines that differ from this Prose's text are analyzed again. Everything else,
+   * including Paragraphs and fragments, is carried over from this Prose, so the work done
+   * scales with the size of the revision rather than the size of the text.
+   *
+   * @param text  the revised text
+   * @return a new Prose object representing the revised text
+   */
+  public final Prose revise(final CharSequence text) {
+    final CharSequence previousText = this.getInitialCharSequence();
+    final int length = Math.min(previousText.length(), text.length());
+    int prefix = 0;
+    while (prefix < length && previousText.charAt(prefix) == text.charAt(prefix)) {
+      prefix++;
+    }
+    int suffix = 0;
+    while (suffix < length - prefix && previousText.charAt(previousText.length() - 1 - suffix)
+        == text.charAt(text.length() - 1 - suffix)) {
+      suffix++;
+    }
+    return new Prose(this, text, prefix, previousText.length() - suffix, text.length() - suffix);
+  }
+
+  /**
+   * Returns a new Prose object for this Prose's text with a range of characters replaced.
+   *
+   * @param start  offset of the first character to replace
+   * @param end  offset just past the last character to replace
+   * @param replacement  the text to put in place of the replaced characters
+   * @return a new Prose object representing the revised text
+   * @see #revise(CharSequence)
+   */
+  public final Prose revise(final int start, final int end, final CharSequence replacement) {
+    final CharSequence previousText = this.getInitialCharSequence();
+    if (start < 0 || end > previousText.length() || start > end) {
+      throw new IndexOutOfBoundsException(
+          "start " + start + ", end " + end + ", length " + previousText.length());
+    }
+    StringBuilder text = new StringBuilder(
+        previousText.length() - (end - start) + replacement.length());
+    text.append(previousText, 0, start).append(replacement)
+        .append(previousText, end, previousText.length());
+    return new Prose(this, text.toString(), start, end, start + replacement.length());
+  }
+
+  /**
+   * Groups the Paragraphs into Sections and Chapters.
+   *
+   * <p>When revising, any Section or Chapter of the previous Prose that is made up of exactly
+   * the same Paragraphs (or Sections), and whose text is unchanged, is reused rather than
+   * aggregated again. Text that lies outside of the edited lines is known to be unchanged
+   * without comparing it.
+   *
+   * @param previous  the Prose being revised, or null
+   * @param windowStart  offset of the start of the edited lines
+   * @param windowEnd  offset of the end of the edited lines
+   * @return the Chapters of the Prose, in order
+   */
+  private List<Chapter> findChapters(final Prose previous, final int windowStart,
+      final int windowEnd) {
+    final List<Integer> sectionStarts = new ArrayList<Integer>();
+    final List<Integer> chapterStarts = new ArrayList<Integer>();
+    final List<String> headings = new ArrayList<String>();
+    for (int i = 0; i < this.paragraphs.size(); i++) {
+      final String paragraphText = this.paragraphs.get(i).getInitialText();
+      if (i == 0) {
+        sectionStarts.add(0);
+        chapterStarts.add(0);
+        headings.add(this.options.isChapterHeading(paragraphText) ? paragraphText : null);
+      } else if (this.options.isChapterHeading(paragraphText)) {
+        chapterStarts.add(sectionStarts.size());
+        sectionStarts.add(i);
+        headings.add(paragraphText);
+      } else if (this.options.isSceneBreak(paragraphText)) {
+        sectionStarts.add(i);
+      }
+    }
+    sectionStarts.add(this.paragraphs.size());
+    chapterStarts.add(sectionStarts.size() - 1);
+
+    final Map<Paragraph, Section> previousSections = new IdentityHashMap<Paragraph, Section>();
+    final Map<Section, Chapter> previousChapters = new IdentityHashMap<Section, Chapter>();
+    if (previous != null) {
+      previous.chapters.forEach( chapter -> {
+        previousChapters.put(chapter.getSections().get(0), chapter);
+        chapter.getSections().forEach( section -> {
+          previousSections.put(section.getParagraphs().get(0), section);
+        });
+      });
+    }
+    final Section[] sections = new Section[sectionStarts.size() - 1];
+    final int[] sectionSpans = new int[2 * sections.length];
+    final boolean[] sectionsEdited = new boolean[sections.length];
+    for (int i = 0; i < sections.length; i++) {
+      sectionSpans[2 * i] = this.paragraphStarts[sectionStarts.get(i)];
+      sectionSpans[2 * i + 1] = this.getParagraphEnd(sectionStarts.get(i + 1) - 1);
+      sectionsEdited[i] =
+          sectionSpans[2 * i] <= windowEnd && sectionSpans[2 * i + 1] >= windowStart;
     }
+    IntStream.range(0, sections.length).parallel().forEach( i -> {
+      final List<Paragraph> paragraphs =
+          this.paragraphs.subList(sectionStarts.get(i), sectionStarts.get(i + 1));
+      final CharSequence sectionText = this.getInitialCharSequence().subSequence(
+          sectionSpans[2 * i], sectionSpans[2 * i + 1]);
+      final Section section = previousSections.get(paragraphs.get(0));
+      sections[i] = (section != null && section.getParagraphs().equals(paragraphs)
+          && (!sectionsEdited[i]
+              || Prose.contentEquals(section.getInitialCharSequence(), sectionText)))
+          ? section
+          : new Section(sectionText, this.getNormalizedCharSequence().subSequence(
+              sectionSpans[2 * i], sectionSpans[2 * i + 1]), paragraphs, this.getDictionary());
+    });
+    final Chapter[] chapters = new Chapter[chapterStarts.size() - 1];
+    IntStream.range(0, chapters.length).parallel().forEach( i -> {
+      final List<Section> chapterSections = Arrays.asList(sections)
+          .subList(chapterStarts.get(i), chapterStarts.get(i + 1));
+      final Chapter chapter = previousChapters.get(chapterSections.get(0));
+      final int start = this.paragraphStarts[sectionStarts.get(chapterStarts.get(i))];
+      final int end = this.getParagraphEnd(sectionStarts.get(chapterStarts.get(i + 1)) - 1);
+      final CharSequence chapterText = this.getInitialCharSequence().subSequence(start, end);
+      // Sections do not cover the blank lines between them, so an edited Chapter's text is
+      // compared even when all of its Sections are unchanged.
+      if (chapter != null && chapter.getSections().equals(chapterSections)
+          && Objects.equals(chapter.getHeading(), headings.get(i))
+          && ((start > windowEnd || end < windowStart)
+              || Prose.contentEquals(chapter.getInitialCharSequence(), chapterText))) {
+        chapters[i] = chapter;
+      } else {
+        chapters[i] = new Chapter(chapterText,
+            this.getNormalizedCharSequence().subSequence(start, end), headings.get(i),
+            chapterSections, this.getDictionary());
+      }
+    });
+    return Collections.unmodifiableList(Arrays.asList(chapters));
+  }
+
+  /**
+   * Returns the offset into the text of the start of each Paragraph.
+   *
+   * @return the start offset of each Paragraph, not to be modified
+   */
+  final int[] getParagraphStarts() {
+    return this.paragraphStarts;
+  }
+
+  /**
+   * Returns the start and end offset pairs of every dialogue fragment.
+   *
+   * @return the span of each dialogue fragment, not to be modified
+   */
+  final int[] getDialogueSpans() {
+    return this.dialogueSpans;
+  }
+
+  final SentenceIndex getSentenceIndex() {
+    return this.sentenceIndex;
+  }
+
+  /**
+   * Analyzes the Paragraph at a span of a text, or takes it from the options' ParagraphCache.
+   *
+   * @param text  the entire text
+   * @param normalizedText  the normalized form of the entire text
+   * @param start  offset of the start of the Paragraph
+   * @param end  offset of the end of the Paragraph
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param options  options with any ParagraphCache
+   * @return the Paragraph
+   */
+  static Paragraph newParagraph(final CharSequence text, final CharSequence normalizedText,
+      final int start, final int end, final Dictionary2 dictionary,
+      final ProseOptions options) {
+    if (options.getParagraphCache() != null) {
+      return options.getParagraphCache().getParagraph(text.subSequence(start, end),
+          normalizedText.subSequence(start, end), dictionary);
+    }
+    return new Paragraph(text.subSequence(start, end), normalizedText.subSequence(start, end),
+        dictionary);
+  }
+
+  private DialogueFragment newDialogueFragment(final int start, final int end) {
+    return new DialogueFragment(
+        Container.convertSmartQuotes(this.getInitialCharSequence().subSequence(start, end)),
+        this.getNormalizedCharSequence().subSequence(start, end), this.findWords(start, end),
+        this.getDictionary());
+  }
+
+  private NarrativeFragment newNarrativeFragment(final int start, final int end) {
+    return new NarrativeFragment(
+        Container.convertSmartQuotes(this.getInitialCharSequence().subSequence(start, end)),
+        this.getNormalizedCharSequence().subSequence(start, end), this.findWords(start, end),
+        this.getDictionary());
+  }
+
+  /**
+   * Returns every Word found in a span of the text. Words are taken from the Paragraphs the
+   * span overlaps; only text that falls between Paragraphs is tokenized.
+   *
+   * @param start  offset of the start of the span
+   * @param end  offset of the end of the span
+   * @return the Words found in the span, in order
+   */
+  private List<Word> findWords(final int start, final int end) {
+    final List<Word> words = new ArrayList<Word>();
+    int position = start;
+    int index = this.findParagraph(start);
+    if (index > 0 && this.getParagraphEnd(index - 1) > start) {
+      index--;
+    }
+    for (; index < this.paragraphs.size() && this.paragraphStarts[index] < end; index++) {
+      final int paragraphStart = this.paragraphStarts[index];
+      if (paragraphStart > position) {
+        words.addAll(this.tokenize(position, paragraphStart));
+      }
+      final int paragraphEnd = this.getParagraphEnd(index);
+      words.addAll(this.paragraphs.get(index).getTokens().getWords(
+          Math.max(start, paragraphStart) - paragraphStart,
+          Math.min(end, paragraphEnd) - paragraphStart));
+      position = Math.max(position, paragraphEnd);
+    }
+    if (end > position) {
+      words.addAll(this.tokenize(position, end));
+    }
+    return words;
+  }
+
+  private List<Word> tokenize(final int start, final int end) {
+    return TokenList.tokenize(this.getNormalizedCharSequence().subSequence(start, end),
+        this.getDictionary()).getWords();
+  }
+
+  /**
+   * Returns the index of the first Paragraph starting at or after an offset.
+   *
+   * @param offset  offset into the text
+   * @return the index of the first Paragraph at or after offset
+   */
+  private int findParagraph(final int offset) {
+    final int index = Arrays.binarySearch(this.paragraphStarts, offset);
+    return (index < 0) ? -(index + 1) : index;
+  }
+
+  private int getParagraphEnd(final int index) {
+    return this.paragraphStarts[index]
+        + this.paragraphs.get(index).getInitialCharSequence().length();
+  }
+
+  /**
+   * Returns the index of the NarrativeFragment with the given span, if there is one.
+   *
+   * @param start  offset of the start of the span
+   * @param end  offset of the end of the span
+   * @return the index of the NarrativeFragment, or -1 if there is none
+   */
+  private int findNarrative(final int start, final int end) {
+    int low = 0;
+    int high = this.narrativeSpans.length / 2 - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int middleStart = this.narrativeSpans[2 * middle];
+      if (middleStart < start) {
+        low = middle + 1;
+      } else if (middleStart > start) {
+        high = middle - 1;
+      } else {
+        return (this.narrativeSpans[2 * middle + 1] == end) ? middle : -1;
+      }
+    }
+    return -1;
+  }
+
+  private void countFragments() {
     this.dialogueSyllableCount = this.dialogueFragments.stream()
         .mapToInt( fragment -> fragment.getSyllableCount())
         .sum();
@@ -104,23 +739,6 @@ public final class Prose extends AggregateContainer {
     this.dialogueThirdPersonWordCount = this.dialogueFragments.stream()
         .mapToInt( fragment -> fragment.getThirdPersonWordCount())
         .sum();
-    this.dialogueFragments.stream().forEach( fragment -> {
-      Set<Word> uniqueWords = fragment.getUniqueWords();
-      uniqueWords.stream().forEach( word -> {
-        int count = (this.dialogueWordFrequency.containsKey(word))
-            ? this.dialogueWordFrequency.get(word) : 0;
-        count += fragment.getWordFrequency(word);
-        this.dialogueWordFrequency.put(word, count);
-      });
-    });
-
-    // Process Narrative
-    for (String narrative: dialoguePattern.split(
-        WordContainer.convertSmartQuotes(this.getInitialText()))) {
-      this.narrativeFragments.add(
-          new NarrativeFragment(narrative, this.getDictionary())
-      );
-    }
     this.narrativeSyllableCount = this.narrativeFragments.stream()
         .mapToInt( fragment -> fragment.getSyllableCount())
         .sum();
@@ -136,42 +754,92 @@ public final class Prose extends AggregateContainer {
     this.narrativeThirdPersonWordCount = this.narrativeFragments.stream()
         .mapToInt( fragment -> fragment.getThirdPersonWordCount())
         .sum();
-    this.narrativeFragments.stream().forEach( fragment -> {
-      Set<Word> uniqueWords = fragment.getUniqueWords();
-      uniqueWords.stream().forEach( word -> {
-        int count = (this.narrativeWordFrequency.containsKey(word))
-            ? this.narrativeWordFrequency.get(word) : 0;
-        count += fragment.getWordFrequency(word);
-        this.narrativeWordFrequency.put(word, count);
-        // Populate povIndicatorFrequency as well.
-        if (word.isPovWord()) {
-          this.povIndicatorFrequency.put(word, count);
-          if (word.isFirstPersonWord() ) {
-            this.firstPersonIndicatorFrequency.put(word, count);
-          } else if (word.isSecondPersonWord()) {
-            this.secondPersonIndicatorFrequency.put(word, count);
-          } else if (word.isThirdPersonWord()) {
-            this.thirdPersonIndicatorFrequency.put(word, count);
-          }
-        }
-      });
-    });
 
     // PoV Indicators are PoV Words fount in Narrative.
-    this.firstPersonIndicatorCount = this.narrativeFragments.stream()
-        .mapToInt( fragment -> fragment.getFirstPersonWordCount())
-        .sum();
-    this.secondPersonIndicatorCount = this.narrativeFragments.stream()
-        .mapToInt( fragment -> fragment.getSecondPersonWordCount())
-        .sum();
-    this.thirdPersonIndicatorCount= this.narrativeFragments.stream()
-        .mapToInt( fragment -> fragment.getThirdPersonWordCount())
-        .sum();
+    this.firstPersonIndicatorCount = this.narrativeFirstPersonWordCount;
+    this.secondPersonIndicatorCount = this.narrativeSecondPersonWordCount;
+    this.thirdPersonIndicatorCount = this.narrativeThirdPersonWordCount;
     this.povIndicatorCount = this.firstPersonIndicatorCount 
         + this.secondPersonIndicatorCount 
         + this.thirdPersonIndicatorCount;
   }
 
+  /**
+   * Builds the PoV word frequency maps from the word frequency map, looking up only the
+   * dictionary's PoV Words, so their getters return them as they are. Every PoV Word is
+   * included, with a frequency of 0 if it does not appear.
+   */
+  private void indexPovWords() {
+    final Map<Word, Integer> povWordFrequency = new HashMap<Word, Integer>();
+    final Map<Word, Integer> firstPersonWordFrequency = new HashMap<Word, Integer>();
+    final Map<Word, Integer> secondPersonWordFrequency = new HashMap<Word, Integer>();
+    final Map<Word, Integer> thirdPersonWordFrequency = new HashMap<Word, Integer>();
+    for (final Word word : this.getDictionary().getPovWords()) {
+      final Integer frequency = this.getWordFrequency(word);
+      povWordFrequency.put(word, frequency);
+      switch (word.getPovType()) {
+        case FIRST:
+          firstPersonWordFrequency.put(word, frequency);
+          break;
+        case SECOND:
+          secondPersonWordFrequency.put(word, frequency);
+          break;
+        case THIRD:
+          thirdPersonWordFrequency.put(word, frequency);
+          break;
+        default:
+          break;
+      }
+    }
+    this.povWordFrequency = Collections.unmodifiableMap(povWordFrequency);
+    this.firstPersonWordFrequency = Collections.unmodifiableMap(firstPersonWordFrequency);
+    this.secondPersonWordFrequency = Collections.unmodifiableMap(secondPersonWordFrequency);
+    this.thirdPersonWordFrequency = Collections.unmodifiableMap(thirdPersonWordFrequency);
+  }
+
+  /**
+   * Brings the PoV indicator frequency maps up to date with the narrative word frequency for
+   * a set of words.
+   *
+   * @param words  words whose narrative frequency may have changed
+   */
+  private void indexPovIndicators(final Set<Word> words) {
+    words.stream().filter( word -> word.isPovWord()).forEach( word -> {
+      final Map<Word, Integer> personIndicatorFrequency;
+      switch (word.getPovType()) {
+        case FIRST:
+          personIndicatorFrequency = this.firstPersonIndicatorFrequency;
+          break;
+        case SECOND:
+          personIndicatorFrequency = this.secondPersonIndicatorFrequency;
+          break;
+        default:
+          personIndicatorFrequency = this.thirdPersonIndicatorFrequency;
+          break;
+      }
+      Integer count = this.narrativeWordFrequency.get(word);
+      if (count == null) {
+        this.povIndicatorFrequency.remove(word);
+        personIndicatorFrequency.remove(word);
+      } else {
+        this.povIndicatorFrequency.put(word, count);
+        personIndicatorFrequency.put(word, count);
+      }
+    });
+  }
+
+  private static boolean contentEquals(final CharSequence first, final CharSequence second) {
+    if (first.length() != second.length()) {
+      return false;
+    }
+    for (int i = 0; i < first.length(); i++) {
+      if (first.charAt(i) != second.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public final Integer getSentenceCount() {
     return this.sentenceCount;
   }
@@ -200,6 +868,10 @@ public final class Prose extends AggregateContainer {
     return (double) this.getWordCount() / (double) this.getSentenceCount();
   }
 
+  public final List<Chapter> getChapters() {
+    return this.chapters;
+  }
+
   public final Integer getDialogueFirstPersonWordCount() {
     return this.dialogueFirstPersonWordCount;
   }
@@ -252,7 +924,7 @@ public final class Prose extends AggregateContainer {
   
   
   public final Map<Word, Integer> getFirstPersonWordFrequency() {
-    return this.getWordFrequency(Word.POV_FIRST);
+    return this.firstPersonWordFrequency;
   }
 
   public final Integer getNarrativeFirstPersonWordCount() {
@@ -331,16 +1003,91 @@ public final class Prose extends AggregateContainer {
     return this.povIndicatorCount;
   }
   
+  /**
+   * Returns the most frequent Words found in dialogue, most frequent first.
+   *
+   * @param count  the most Words to return
+   * @param excludeStopWords  true to leave out stop words
+   * @return up to count Words with the number of times each appears in dialogue
+   * @see Container#getTopWords(int, boolean)
+   */
+  public final List<Map.Entry<Word, Integer>> getTopDialogueWords(final int count,
+      final boolean excludeStopWords) {
+    return Container.topWords(this.getDialogueWordFrequency(), count,
+        word -> !(excludeStopWords && word.isStopWord()));
+  }
+
+  /**
+   * Returns the most frequent Words found in narrative, most frequent first.
+   *
+   * @param count  the most Words to return
+   * @param excludeStopWords  true to leave out stop words
+   * @return up to count Words with the number of times each appears in narrative
+   * @see Container#getTopWords(int, boolean)
+   */
+  public final List<Map.Entry<Word, Integer>> getTopNarrativeWords(final int count,
+      final boolean excludeStopWords) {
+    return Container.topWords(this.getNarrativeWordFrequency(), count,
+        word -> !(excludeStopWords && word.isStopWord()));
+  }
+
+  /**
+   * Returns the most frequent point of view Words, most frequent first.
+   *
+   * @param count  the most Words to return
+   * @return up to count point of view Words with the number of times each appears
+   * @see Container#getTopWords(int, boolean)
+   */
+  public final List<Map.Entry<Word, Integer>> getTopPovWords(final int count) {
+    return Container.topWords(this.getWordFrequency(), count, Word::isPovWord);
+  }
+
   public final Map<Word, Integer> getPovWordFrequency() {
     return this.povWordFrequency;
   }
 
   public final Integer getPovWordFrequency(Word word) {
-    if (word.isPovWord() && this.povWordFrequency.containsKey(word)) {
-      return this.povWordFrequency.get(word);
-    } else {
-      return 0;
-    }
+    return this.povWordFrequency.getOrDefault(word, 0);
+  }
+
+  /**
+   * Returns ReadabilityScores for a range of the Prose's Sentences.
+   *
+   * <p>Counts for every Sentence are totaled once, when the Prose is created, so any range is
+   * scored in constant time without analyzing its text again.
+   *
+   * @param fromSentence  index of the first Sentence of the range, inclusive
+   * @param toSentence  index of the last Sentence of the range, exclusive
+   * @return ReadabilityScores for the Sentences in the range
+   * @see #getSentences()
+   */
+  public final ReadabilityScores getReadabilityScores(final int fromSentence,
+      final int toSentence) {
+    return this.sentenceIndex.getReadabilityScores(fromSentence, toSentence);
+  }
+
+  /**
+   * Returns ReadabilityScores over sliding windows of a number of Sentences.
+   *
+   * @param windowSize  number of Sentences in each window
+   * @param stride  number of Sentences between the starts of consecutive windows
+   * @return a profile of the Prose's readability from beginning to end
+   */
+  public final ReadabilityProfile getReadabilityProfileBySentences(final int windowSize,
+      final int stride) {
+    return ReadabilityProfile.bySentences(this.sentenceIndex, windowSize, stride);
+  }
+
+  /**
+   * Returns ReadabilityScores over sliding windows of a number of Words.
+   *
+   * @param windowSize  number of Words in each window
+   * @param stride  number of Words between the starts of consecutive windows
+   * @return a profile of the Prose's readability from beginning to end
+   */
+  public final ReadabilityProfile getReadabilityProfileByWords(final int windowSize,
+      final int stride) {
+    return ReadabilityProfile.byWords(this.getSentences(), this.getWords(), windowSize, stride);
   }
 
   public final Integer getSecondPersonIndicatorCount() {
@@ -352,21 +1099,48 @@ public final class Prose extends AggregateContainer {
   }
   
   public final Map<Word, Integer> getSecondPersonWordFrequency() {
-    return this.getWordFrequency(Word.POV_SECOND);
+    return this.secondPersonWordFrequency;
   }
 
   /**
-   * Returns a list of all Sentences found in the Paragraph.
+   * Returns a list of all Sections found in the Prose, across every Chapter.
    *
-   * @return a list of all Sentences found in the Paragraph.
+   * @return an unmodifiable list of all Sections found in the Prose.
+   */
+  public final List<Section> getSections() {
+    if (this.sections == null) {
+      List<Section> sections = new ArrayList<Section>();
+      this.getChapters().stream().forEach( chapter -> {
+        sections.addAll(chapter.getSections());
+      });
+      this.sections = Collections.unmodifiableList(sections);
+    }
+    return this.sections;
+  }
+
+  /**
+   * Returns a list of all Sentences found in the Prose.
+   *
+   * <p>The list is built on the first call and the same unmodifiable list is returned after
+   * that. It is backed by an array, so its stream and spliterator split evenly for parallel
+   * processing.
+   *
+   * @return an unmodifiable list of all Sentences found in the Prose.
    *
    */
   public final List<Sentence> getSentences() {
-    List<Sentence> sentences = new ArrayList<Sentence>();
-    this.getParagraphs().stream().forEach( paragraph -> {
-      sentences.addAll(paragraph.getSentences());
-    });
-    return sentences;
+    if (this.sentences == null) {
+      List<Sentence> sentences = new ArrayList<Sentence>(this.getSentenceCount());
+      this.getParagraphs().stream().forEach( paragraph -> {
+        sentences.addAll(paragraph.getSentences());
+      });
+      this.sentences = Collections.unmodifiableList(sentences);
+    }
+    return this.sentences;
+  }
+
+  public final Stream<Sentence> getSentenceStream() {
+    return this.getSentences().stream();
   }
 
   public final Integer getThirdPersonIndicatorCount() {
@@ -378,15 +1152,30 @@ public final class Prose extends AggregateContainer {
   }
   
   public final Map<Word, Integer> getThirdPersonWordFrequency() {
-    return this.getWordFrequency(Word.POV_THIRD);
+    return this.thirdPersonWordFrequency;
   }
 
+  /**
+   * Returns every Word found in the Prose's Sentences, in order.
+   *
+   * <p>The list is built on the first call and the same unmodifiable list is returned after
+   * that.
+   *
+   * @return an unmodifiable list of the Words found in the Prose's Sentences.
+   */
   public final List<Word> getWords() {
-    List<Word> words = new ArrayList<Word>();
-    this.getSentences().stream().forEach( sentence -> {
-      words.addAll(sentence.getWords());
-    });
-    return words;
+    if (this.words == null) {
+      List<Word> words = new ArrayList<Word>(this.getWordCount());
+      this.getParagraphs().stream().forEach( paragraph -> {
+        words.addAll(paragraph.getWords());
+      });
+      this.words = Collections.unmodifiableList(words);
+    }
+    return this.words;
   }
- 
+
+  public final Stream<Word> getWordStream() {
+    return this.getWords().stream();
+  }
+
 }
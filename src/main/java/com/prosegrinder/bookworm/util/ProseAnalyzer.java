@@ -0,0 +1,127 @@
+package com.prosegrinder.bookworm.util;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Analyzes Prose asynchronously, so the thread asking for an analysis is never held up by it.
+ *
+ * <p>The analysis runs on the given Executor, and the returned future completes with the
+ * Prose. Cancelling the future stops the analysis. Once a time budget has run out, the future
+ * is completed with a TimeoutException right away, whether the analysis is running, still
+ * waiting for the Executor or has not reached a checkpoint, and the analysis is stopped too.
+ * A running analysis notices either between Paragraphs (and between dialogue and narrative
+ * fragments), so it stops within the time it takes to analyze a single Paragraph, and one
+ * still waiting for the Executor returns as soon as it starts.
+ *
+ * <p>For example, to give up on any text that takes longer than five seconds:
+ * <pre>
+ * CompletableFuture&lt;Prose&gt; future = ProseAnalyzer.analyzeAsync(text, dictionary,
+ *     ProseOptions.getDefaultProseOptions(), executor, Duration.ofSeconds(5));
+ * </pre>
+ */
+public final class ProseAnalyzer {
+
+  private static final ScheduledThreadPoolExecutor TIMEOUTS = ProseAnalyzer.newTimeouts();
+
+  private ProseAnalyzer() {
+  }
+
+  /**
+   * Analyzes a text on an Executor, with the default ProseOptions and no time budget.
+   *
+   * @param text  a string of text representing a complete work of prose fiction
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param executor  runs the analysis
+   * @return a future that completes with the Prose, and stops the analysis if cancelled
+   */
+  public static final CompletableFuture<Prose> analyzeAsync(final CharSequence text,
+      final Dictionary2 dictionary, final Executor executor) {
+    return ProseAnalyzer.analyzeAsync(text, dictionary, ProseOptions.getDefaultProseOptions(),
+        executor, null);
+  }
+
+  /**
+   * Analyzes a text on an Executor, giving up once a time budget has run out.
+   *
+   * <p>The budget starts when this method is called, so it includes any time the analysis
+   * spends waiting for the Executor.
+   *
+   * @param text  a string of text representing a complete work of prose fiction
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param options  options for finding Chapters and Sections
+   * @param executor  runs the analysis
+   * @param timeBudget  longest the analysis may take, or null for no limit
+   * @return a future that completes with the Prose, or with a TimeoutException once the budget
+   *     has run out, and stops the analysis if cancelled
+   */
+  public static final CompletableFuture<Prose> analyzeAsync(final CharSequence text,
+      final Dictionary2 dictionary, final ProseOptions options, final Executor executor,
+      final Duration timeBudget) {
+    final CompletableFuture<Prose> future = new CompletableFuture<Prose>();
+    if (timeBudget != null) {
+      final long budget = ProseAnalyzer.toNanos(timeBudget);
+      final TimeoutException timeout = new TimeoutException(
+          "Analysis took longer than its time budget of " + timeBudget);
+      if (budget <= 0) {
+        future.completeExceptionally(timeout);
+        return future;
+      }
+      if (budget < Long.MAX_VALUE) {
+        final ScheduledFuture<?> timer = ProseAnalyzer.TIMEOUTS.schedule(
+            () -> future.completeExceptionally(timeout), budget, TimeUnit.NANOSECONDS);
+        future.whenComplete( (prose, thrown) -> timer.cancel(false));
+      }
+    }
+    final Runnable checkpoint = () -> {
+      if (future.isDone()) {
+        throw new CancellationException();
+      }
+    };
+    executor.execute(() -> {
+      try {
+        checkpoint.run();
+        future.complete(new Prose(text, dictionary, options, checkpoint));
+      } catch (CancellationException e) {
+        // The future was cancelled or timed out, which leaves nothing to do.
+      } catch (Throwable t) {
+        future.completeExceptionally(t);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Returns a Duration in nanoseconds, saturated at Long.MAX_VALUE, or at zero for a negative
+   * Duration, rather than overflowing.
+   */
+  private static long toNanos(final Duration duration) {
+    if (duration.isNegative()) {
+      return 0L;
+    }
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private static ScheduledThreadPoolExecutor newTimeouts() {
+    final ScheduledThreadPoolExecutor timeouts = new ScheduledThreadPoolExecutor(1,
+        runnable -> {
+          final Thread thread = new Thread(runnable, "bookworm-prose-analyzer-timeouts");
+          thread.setDaemon(true);
+          return thread;
+        });
+    // Analyses that finish in time take their timeouts with them.
+    timeouts.setRemoveOnCancelPolicy(true);
+    return timeouts;
+  }
+
+}
@@ -0,0 +1,233 @@
+package com.prosegrinder.bookworm.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A cache of analysis results, so a text that has already been analyzed is not analyzed again.
+ *
+ * <p>Results are keyed on a hash of the text's content, together with the version of the
+ * library, the version of the dictionary, the ProseOptions and the version of the
+ * ProseResults format, so a change to any of them is never answered with stale results. The
+ * same text submitted twice, by anyone, is answered from the cache.
+ *
+ * <p>Results are kept in memory, in the compact form of ProseResults, up to a maximum weight in
+ * bytes of that form, and the least recently used are evicted first. If a directory is given,
+ * results are also written there, one file per text, and read back when they are no longer in
+ * memory, so they outlast the process. A file that cannot be read, or does not hold valid
+ * results, is treated as missing: it is deleted, and written again once the text is analyzed.
+ * Concurrent requests for the same text wait for a single analysis.
+ *
+ * @see ProseResults
+ */
+public final class ProseCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProseCache.class);
+
+  /** File extension of results on disk. **/
+  private static final String EXTENSION = ".bkwr";
+
+  private final Dictionary2 dictionary;
+  private final ProseOptions options;
+  private final Path directory;
+  private final Cache<String, Entry> memoryCache;
+  private final String version;
+
+  /**
+   * Get a new ProseCache using a configuration object.
+   *
+   * @param config A Typesafe Config containing necessary parameters for construction.
+   * @param dictionary  dictionary used for word reference (cache)
+   * @return a new ProseCache
+   */
+  public static final ProseCache getProseCache(final Config config,
+      final Dictionary2 dictionary) {
+    Long maxWeight = config.getBytes("maxWeight");
+    Path directory =
+        config.hasPath("directory") ? Paths.get(config.getString("directory")) : null;
+    return new ProseCache(dictionary, ProseOptions.getDefaultProseOptions(), maxWeight,
+        directory);
+  }
+
+  public static final ProseCache getDefaultProseCache(final Dictionary2 dictionary) {
+    Config config = ConfigFactory.load().getConfig("com.prosegrinder.bookworm.util.proseCache");
+    return ProseCache.getProseCache(config, dictionary);
+  }
+
+  /**
+   * Create a new ProseCache.
+   *
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param options  options texts are analyzed with
+   * @param maxWeight  most bytes of results kept in memory
+   * @param directory  directory results are kept in on disk, or null to keep them only in
+   *     memory
+   */
+  public ProseCache(final Dictionary2 dictionary, final ProseOptions options,
+      final Long maxWeight, final Path directory) {
+    this.dictionary = dictionary;
+    this.options = options;
+    this.directory = directory;
+    this.memoryCache = CacheBuilder.newBuilder()
+        .maximumWeight(maxWeight)
+        .weigher( (String key, Entry entry) -> entry.weight)
+        .build();
+    this.version = ConfigFactory.load().getString("com.prosegrinder.bookworm.version")
+        + "|" + Dictionary2.getVersion() + "|" + ProseResults.FORMAT_VERSION
+        + "|" + options.getParagraphStyle()
+        + "|" + options.getChapterHeadingPattern().pattern()
+        + "|" + options.getChapterHeadingPattern().flags()
+        + "|" + options.getSceneBreakPattern().pattern()
+        + "|" + options.getSceneBreakPattern().flags();
+  }
+
+  /**
+   * Returns the results of analyzing a text, from the cache if it has been analyzed before.
+   *
+   * @param text  a string of text representing a complete work of prose fiction
+   * @return the results of analyzing text
+   */
+  public final ProseResults analyze(final CharSequence text) {
+    final String key = this.getKey(text);
+    try {
+      return this.memoryCache.get(key, () -> this.load(key, text)).results;
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new IllegalStateException("Could not analyze text " + key, e.getCause());
+    }
+  }
+
+  /**
+   * Returns the key a text's results are cached under: a SHA-256 hash of the text and
+   * everything its results depend on, in hexadecimal.
+   *
+   * @param text  a string of text representing a complete work of prose fiction
+   * @return the key for text
+   */
+  public final String getKey(final CharSequence text) {
+    final Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(this.version, StandardCharsets.UTF_8);
+    hasher.putChar('\n');
+    hasher.putString(text, StandardCharsets.UTF_8);
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Returns the number of results kept in memory.
+   *
+   * @return the number of results in memory
+   */
+  public final Long getMemoryEntryCount() {
+    return this.memoryCache.size();
+  }
+
+  /**
+   * Discards every result kept in memory, leaving any on disk.
+   */
+  public final void invalidateMemory() {
+    this.memoryCache.invalidateAll();
+  }
+
+  /**
+   * Reads a text's results from disk, or analyzes the text and writes them there.
+   *
+   * @param key  the key for text
+   * @param text  the text
+   * @return the results, with their weight
+   */
+  private Entry load(final String key, final CharSequence text) {
+    final Path path = (this.directory != null)
+        ? this.directory.resolve(key + ProseCache.EXTENSION) : null;
+    if (path != null) {
+      try {
+        final byte[] bytes = Files.readAllBytes(path);
+        return new Entry(ProseResults.fromBytes(bytes), bytes.length);
+      } catch (NoSuchFileException e) {
+        // Never analyzed, or since deleted.
+      } catch (IOException | RuntimeException e) {
+        // Corrupt or unreadable: drop it, and write the results again below.
+        logger.warn("Could not read cached results " + path + ": " + e);
+        this.discard(path);
+      }
+    }
+    final ProseResults results =
+        new ProseResults(new Prose(text, this.dictionary, this.options));
+    final byte[] bytes = results.toBytes();
+    if (path != null) {
+      this.store(path, bytes);
+    }
+    return new Entry(results, bytes.length);
+  }
+
+  /**
+   * Deletes a file of results that could not be read, so it is not read again.
+   *
+   * @param path  file to delete
+   */
+  private void discard(final Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      logger.warn("Could not delete cached results " + path + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Writes results to disk through a temporary file, so a reader never sees part of a file.
+   *
+   * @param path  file to write
+   * @param bytes  results in the binary format
+   */
+  private void store(final Path path, final byte[] bytes) {
+    Path temporary = null;
+    try {
+      Files.createDirectories(this.directory);
+      temporary = Files.createTempFile(this.directory, "results", ".tmp");
+      Files.write(temporary, bytes);
+      Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      logger.warn("Could not write cached results " + path + ": " + e.getMessage());
+      try {
+        if (temporary != null) {
+          Files.deleteIfExists(temporary);
+        }
+      } catch (IOException ignored) {
+        // Nothing more can be done.
+      }
+    }
+  }
+
+  /**
+   * Results in memory, weighed by the size of their compact form.
+   */
+  private static final class Entry {
+
+    private final ProseResults results;
+    private final int weight;
+
+    private Entry(final ProseResults results, final int weight) {
+      this.results = results;
+      this.weight = weight;
+    }
+
+  }
+
+}
@@ -0,0 +1,144 @@
+package com.prosegrinder.bookworm.util;
+
+import com.prosegrinder.bookworm.enums.ParagraphStyle;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import java.util.regex.Pattern;
+
+/**
+ * Options that control how a Prose is broken down into Paragraphs, Sections and Chapters,
+ * and where analyzed Paragraphs may be reused from.
+ *
+ * <p>ProseOptions are immutable. Use the with methods to derive new options from existing
+ * ones, for example:
+ * <pre>
+ * ProseOptions options = ProseOptions.getDefaultProseOptions()
+ *     .withSceneBreakPattern(Pattern.compile("\\s*~+\\s*"));
+ * </pre>
+ *
+ * @see Prose#Prose(CharSequence, Dictionary2, ProseOptions)
+ */
+public final class ProseOptions {
+
+  private final ParagraphStyle paragraphStyle;
+  private final Pattern chapterHeadingPattern;
+  private final Pattern sceneBreakPattern;
+  private final ParagraphCache paragraphCache;
+
+  /**
+   * Get a new ProseOptions using a configuration object.
+   *
+   * @param config A Typesafe Config containing necessary parameters for construction.
+   * @return a new ProseOptions
+   */
+  public static final ProseOptions getProseOptions(final Config config) {
+    ParagraphStyle paragraphStyle = config.getEnum(ParagraphStyle.class, "paragraphStyle");
+    Pattern chapterHeadingPattern = Pattern.compile(config.getString("chapterHeadingPattern"));
+    Pattern sceneBreakPattern = Pattern.compile(config.getString("sceneBreakPattern"));
+    return new ProseOptions(paragraphStyle, chapterHeadingPattern, sceneBreakPattern);
+  }
+
+  /**
+   * Returns the ProseOptions configured in the default configuration. They are loaded once
+   * and shared.
+   *
+   * @return the default ProseOptions
+   */
+  public static final ProseOptions getDefaultProseOptions() {
+    return DefaultHolder.DEFAULT;
+  }
+
+  /**
+   * Create a new ProseOptions instance for text with one Paragraph per line.
+   *
+   * @param chapterHeadingPattern  matches the entire text of a Paragraph that begins a Chapter
+   * @param sceneBreakPattern  matches the entire text of a Paragraph that begins a Section
+   */
+  public ProseOptions(final Pattern chapterHeadingPattern, final Pattern sceneBreakPattern) {
+    this(ParagraphStyle.LINE, chapterHeadingPattern, sceneBreakPattern);
+  }
+
+  /**
+   * Create a new ProseOptions instance.
+   *
+   * @param paragraphStyle  how the Paragraphs of the text are laid out
+   * @param chapterHeadingPattern  matches the entire text of a Paragraph that begins a Chapter
+   * @param sceneBreakPattern  matches the entire text of a Paragraph that begins a Section
+   */
+  public ProseOptions(final ParagraphStyle paragraphStyle, final Pattern chapterHeadingPattern,
+      final Pattern sceneBreakPattern) {
+    this(paragraphStyle, chapterHeadingPattern, sceneBreakPattern, null);
+  }
+
+  /**
+   * Create a new ProseOptions instance that shares a cache of analyzed Paragraphs.
+   *
+   * @param paragraphStyle  how the Paragraphs of the text are laid out
+   * @param chapterHeadingPattern  matches the entire text of a Paragraph that begins a Chapter
+   * @param sceneBreakPattern  matches the entire text of a Paragraph that begins a Section
+   * @param paragraphCache  cache of analyzed Paragraphs, or null to analyze every Paragraph
+   */
+  public ProseOptions(final ParagraphStyle paragraphStyle, final Pattern chapterHeadingPattern,
+      final Pattern sceneBreakPattern, final ParagraphCache paragraphCache) {
+    this.paragraphStyle = paragraphStyle;
+    this.chapterHeadingPattern = chapterHeadingPattern;
+    this.sceneBreakPattern = sceneBreakPattern;
+    this.paragraphCache = paragraphCache;
+  }
+
+  public final ParagraphStyle getParagraphStyle() {
+    return this.paragraphStyle;
+  }
+
+  public final Pattern getChapterHeadingPattern() {
+    return this.chapterHeadingPattern;
+  }
+
+  public final Pattern getSceneBreakPattern() {
+    return this.sceneBreakPattern;
+  }
+
+  /**
+   * Returns the cache analyzed Paragraphs are taken from and added to.
+   *
+   * @return the cache of analyzed Paragraphs, or null if there is none
+   */
+  public final ParagraphCache getParagraphCache() {
+    return this.paragraphCache;
+  }
+
+  public final ProseOptions withParagraphStyle(final ParagraphStyle paragraphStyle) {
+    return new ProseOptions(paragraphStyle, this.chapterHeadingPattern, this.sceneBreakPattern,
+        this.paragraphCache);
+  }
+
+  public final ProseOptions withChapterHeadingPattern(final Pattern chapterHeadingPattern) {
+    return new ProseOptions(this.paragraphStyle, chapterHeadingPattern, this.sceneBreakPattern,
+        this.paragraphCache);
+  }
+
+  public final ProseOptions withSceneBreakPattern(final Pattern sceneBreakPattern) {
+    return new ProseOptions(this.paragraphStyle, this.chapterHeadingPattern, sceneBreakPattern,
+        this.paragraphCache);
+  }
+
+  public final ProseOptions withParagraphCache(final ParagraphCache paragraphCache) {
+    return new ProseOptions(this.paragraphStyle, this.chapterHeadingPattern,
+        this.sceneBreakPattern, paragraphCache);
+  }
+
+  final boolean isChapterHeading(final CharSequence paragraphText) {
+    return this.chapterHeadingPattern.matcher(paragraphText).matches();
+  }
+
+  final boolean isSceneBreak(final CharSequence paragraphText) {
+    return this.sceneBreakPattern.matcher(paragraphText).matches();
+  }
+
+  private static final class DefaultHolder {
+    private static final ProseOptions DEFAULT = ProseOptions.getProseOptions(
+        ConfigFactory.load().getConfig("com.prosegrinder.bookworm.util.prose"));
+  }
+
+}
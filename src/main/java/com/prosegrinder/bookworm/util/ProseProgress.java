@@ -0,0 +1,156 @@
+package com.prosegrinder.bookworm.util;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * A single step of a Prose analysis published by a ProsePublisher.
+ *
+ * <p>Every Paragraph is published as it is analyzed, in order, along with its
+ * ReadabilityScores and the running totals of every Paragraph published so far. Once the last
+ * Paragraph has been published, one more step is published with the completed Prose, whose
+ * totals are the same as the running totals of the last Paragraph.
+ *
+ * @see ProsePublisher
+ */
+public final class ProseProgress {
+
+  private final Integer paragraphIndex;
+  private final Paragraph paragraph;
+  private final ReadabilityScores readabilityScores;
+  private final Integer paragraphCount;
+  private final Integer sentenceCount;
+  private final Integer wordCount;
+  private final Integer syllableCount;
+  private final ReadabilityScores totalReadabilityScores;
+  private final Prose prose;
+
+  /**
+   * Returns the step for a Paragraph, following the step for the Paragraph before it.
+   *
+   * @param previous  the step for the Paragraph before, or null for the first Paragraph
+   * @param paragraph  the Paragraph
+   */
+  ProseProgress(final ProseProgress previous, final Paragraph paragraph) {
+    this.paragraphIndex = (previous != null) ? previous.getParagraphIndex() + 1 : 0;
+    this.paragraph = paragraph;
+    this.readabilityScores = ProseProgress.scores(paragraph.getWordCharacterCount(),
+        paragraph.getComplexWordCount(), paragraph.getLongWordCount(),
+        paragraph.getSentenceCount(), paragraph.getSyllableCount(), paragraph.getWordCount());
+    this.paragraphCount = this.paragraphIndex + 1;
+    this.sentenceCount = ProseProgress.total(previous,
+        ReadabilityScores::getSentenceCount) + paragraph.getSentenceCount();
+    this.wordCount = ProseProgress.total(previous,
+        ReadabilityScores::getWordCount) + paragraph.getWordCount();
+    this.syllableCount = ProseProgress.total(previous,
+        ReadabilityScores::getSyllableCount) + paragraph.getSyllableCount();
+    this.totalReadabilityScores = ProseProgress.scores(
+        ProseProgress.total(previous, ReadabilityScores::getCharacterCount)
+            + paragraph.getWordCharacterCount(),
+        ProseProgress.total(previous, ReadabilityScores::getComplexWordCount)
+            + paragraph.getComplexWordCount(),
+        ProseProgress.total(previous, ReadabilityScores::getLongWordCount)
+            + paragraph.getLongWordCount(),
+        this.sentenceCount, this.syllableCount, this.wordCount);
+    this.prose = null;
+  }
+
+  /**
+   * Returns the final step, for the completed Prose.
+   *
+   * @param prose  the completed Prose
+   */
+  ProseProgress(final Prose prose) {
+    this.paragraphIndex = prose.getParagraphCount();
+    this.paragraph = null;
+    this.readabilityScores = null;
+    this.paragraphCount = prose.getParagraphCount();
+    this.sentenceCount = prose.getSentenceCount();
+    this.wordCount = prose.getWordCount();
+    this.syllableCount = prose.getSyllableCount();
+    this.totalReadabilityScores = new ReadabilityScores(prose);
+    this.prose = prose;
+  }
+
+  private static int total(final ProseProgress previous,
+      final ToIntFunction<ReadabilityScores> count) {
+    return (previous != null) ? count.applyAsInt(previous.getTotalReadabilityScores()) : 0;
+  }
+
+  private static ReadabilityScores scores(final Integer characterCount,
+      final Integer complexWordCount, final Integer longWordCount,
+      final Integer sentenceCount, final Integer syllableCount, final Integer wordCount) {
+    return new ReadabilityScores(characterCount, complexWordCount, longWordCount,
+        sentenceCount, syllableCount, wordCount);
+  }
+
+  /**
+   * Returns the index of the Paragraph, or for the final step, the number of Paragraphs.
+   *
+   * @return the index of the Paragraph
+   */
+  public final Integer getParagraphIndex() {
+    return this.paragraphIndex;
+  }
+
+  /**
+   * Returns the Paragraph analyzed by this step.
+   *
+   * @return the Paragraph, or null for the final step
+   */
+  public final Paragraph getParagraph() {
+    return this.paragraph;
+  }
+
+  /**
+   * Returns the ReadabilityScores of the Paragraph analyzed by this step.
+   *
+   * @return the Paragraph's ReadabilityScores, or null for the final step
+   */
+  public final ReadabilityScores getReadabilityScores() {
+    return this.readabilityScores;
+  }
+
+  public final Integer getParagraphCount() {
+    return this.paragraphCount;
+  }
+
+  public final Integer getSentenceCount() {
+    return this.sentenceCount;
+  }
+
+  public final Integer getWordCount() {
+    return this.wordCount;
+  }
+
+  public final Integer getSyllableCount() {
+    return this.syllableCount;
+  }
+
+  /**
+   * Returns the ReadabilityScores of every Paragraph published so far, taken together.
+   *
+   * @return the running ReadabilityScores
+   */
+  public final ReadabilityScores getTotalReadabilityScores() {
+    return this.totalReadabilityScores;
+  }
+
+  /**
+   * Returns the completed Prose, with its Chapters, dialogue and point of view.
+   *
+   * @return the Prose, or null for every step but the final one
+   */
+  public final Prose getProse() {
+    return this.prose;
+  }
+
+  /**
+   * Returns true if this is the final step, for the completed Prose.
+   *
+   * @return true if this is the final step
+   */
+  public final Boolean isComplete() {
+    return this.prose != null;
+  }
+
+}
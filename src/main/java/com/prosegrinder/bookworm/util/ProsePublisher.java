@@ -0,0 +1,205 @@
+package com.prosegrinder.bookworm.util;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes a Prose analysis one Paragraph at a time, so results can be shown while a long
+ * text is still being analyzed.
+ *
+ * <p>Each Subscriber gets its own analysis, run on the given Executor. Paragraphs are analyzed
+ * in order and only as the Subscriber asks for them, so a Subscriber that stops asking stops
+ * the analysis, and cancelling stops it for good. Each Paragraph is published as a
+ * ProseProgress with its ReadabilityScores and the running totals so far. After the last
+ * Paragraph, a final ProseProgress is published with the completed Prose, built from the
+ * Paragraphs already analyzed, and then the Subscriber is completed. Chapters, dialogue and
+ * point of view are only found over the entire text, so they come with the completed Prose.
+ *
+ * <p>This is a Reactive Streams Publisher, which has the same contract as the Java 9
+ * {@code java.util.concurrent.Flow.Publisher}. On Java 9 or later, use
+ * {@code org.reactivestreams.FlowAdapters.toFlowPublisher(publisher)} to subscribe with a
+ * {@code Flow.Subscriber}.
+ *
+ * <p>For example, to report progress a Paragraph at a time:
+ * <pre>
+ * new ProsePublisher(text, dictionary, executor).subscribe(subscriber);
+ * </pre>
+ *
+ * @see ProseProgress
+ */
+public final class ProsePublisher implements Publisher<ProseProgress> {
+
+  private final CharSequence text;
+  private final Dictionary2 dictionary;
+  private final ProseOptions options;
+  private final Executor executor;
+
+  /**
+   * Returns a new ProsePublisher for a text, with the default ProseOptions.
+   *
+   * @param text  a string of text representing a complete work of prose fiction
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param executor  runs the analysis and calls each Subscriber
+   */
+  public ProsePublisher(final CharSequence text, final Dictionary2 dictionary,
+      final Executor executor) {
+    this(text, dictionary, ProseOptions.getDefaultProseOptions(), executor);
+  }
+
+  /**
+   * Returns a new ProsePublisher for a text.
+   *
+   * @param text  a string of text representing a complete work of prose fiction
+   * @param dictionary  dictionary used for word reference (cache)
+   * @param options  options for finding Paragraphs, Chapters and Sections
+   * @param executor  runs the analysis and calls each Subscriber
+   */
+  public ProsePublisher(final CharSequence text, final Dictionary2 dictionary,
+      final ProseOptions options, final Executor executor) {
+    this.text = text;
+    this.dictionary = dictionary;
+    this.options = options;
+    this.executor = executor;
+  }
+
+  @Override
+  public final void subscribe(final Subscriber<? super ProseProgress> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber must not be null");
+    }
+    subscriber.onSubscribe(new ProseSubscription(subscriber));
+  }
+
+  /**
+   * A single Subscriber's analysis. Everything but the demand, the cancelled flag and any
+   * error from request is only touched by the drain loop, which never runs on more than one
+   * thread at a time.
+   */
+  private final class ProseSubscription implements Subscription, Runnable {
+
+    private final Subscriber<? super ProseProgress> subscriber;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger drains = new AtomicInteger();
+    private volatile boolean cancelled = false;
+    private volatile Throwable requestError = null;
+
+    private CharSequence normalizedText = null;
+    private int[] paragraphSpans = null;
+    private Paragraph[] paragraphs = null;
+    private ProseProgress previous = null;
+    private int next = 0;
+    private boolean done = false;
+
+    private ProseSubscription(final Subscriber<? super ProseProgress> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        this.requestError = new IllegalArgumentException(
+            "Request must be for a positive number of items, not " + n);
+      } else {
+        this.demand.getAndUpdate( d -> (d + n < 0) ? Long.MAX_VALUE : d + n);
+      }
+      this.drain();
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+    }
+
+    private void drain() {
+      if (this.drains.getAndIncrement() == 0) {
+        ProsePublisher.this.executor.execute(this);
+      }
+    }
+
+    @Override
+    public void run() {
+      int missed = 1;
+      do {
+        this.emit();
+        missed = this.drains.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void emit() {
+      if (this.done || this.cancelled) {
+        return;
+      }
+      if (this.requestError != null) {
+        this.finish();
+        this.subscriber.onError(this.requestError);
+        return;
+      }
+      try {
+        while (!this.cancelled && this.demand.get() > 0) {
+          final ProseProgress progress = this.analyzeNext();
+          if (this.demand.get() != Long.MAX_VALUE) {
+            this.demand.decrementAndGet();
+          }
+          this.subscriber.onNext(progress);
+          if (progress.isComplete()) {
+            this.finish();
+            this.subscriber.onComplete();
+            return;
+          }
+        }
+      } catch (CancellationException e) {
+        // Cancelled while the Prose was being completed.
+        this.finish();
+      } catch (Throwable t) {
+        this.finish();
+        this.subscriber.onError(t);
+      }
+    }
+
+    /**
+     * Analyzes the next Paragraph, or once every Paragraph has been analyzed, completes the
+     * Prose.
+     *
+     * @return the next ProseProgress
+     */
+    private ProseProgress analyzeNext() {
+      final CharSequence text = ProsePublisher.this.text;
+      if (this.paragraphSpans == null) {
+        this.normalizedText = TextNormalizer.normalize(text);
+        this.paragraphSpans = ParagraphScanner.findParagraphSpans(text, 0, text.length(),
+            ProsePublisher.this.options.getParagraphStyle());
+        this.paragraphs = new Paragraph[this.paragraphSpans.length / 2];
+      }
+      if (this.next < this.paragraphs.length) {
+        final Paragraph paragraph = Prose.newParagraph(text, this.normalizedText,
+            this.paragraphSpans[2 * this.next], this.paragraphSpans[2 * this.next + 1],
+            ProsePublisher.this.dictionary, ProsePublisher.this.options);
+        this.paragraphs[this.next++] = paragraph;
+        this.previous = new ProseProgress(this.previous, paragraph);
+        return this.previous;
+      }
+      return new ProseProgress(new Prose(text, this.normalizedText, this.paragraphs,
+          ProsePublisher.this.dictionary, ProsePublisher.this.options, () -> {
+            if (this.cancelled) {
+              throw new CancellationException();
+            }
+          }));
+    }
+
+    private void finish() {
+      this.done = true;
+      this.cancelled = true;
+      this.normalizedText = null;
+      this.paragraphs = null;
+      this.previous = null;
+    }
+
+  }
+
+}
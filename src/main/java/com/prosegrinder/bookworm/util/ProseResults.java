@@ -0,0 +1,684 @@
+package com.prosegrinder.bookworm.util;
+
+import com.prosegrinder.bookworm.enums.PovType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The results of analyzing a Prose, in a form that can be written to and read back from a
+ * compact binary format without the text, its Words or analyzing anything again.
+ *
+ * <p>Holds the counts of the entire Prose, the offset of each Paragraph and its count of
+ * Sentences, the counts behind ReadabilityScores for each Sentence, the spans of dialogue,
+ * and a table of every unique word with how often it appears overall, in dialogue and in
+ * narrative. Counts that can be worked out from others, such as the totals of the Sentences
+ * and the spans of narrative, are worked out when read rather than stored.
+ *
+ * <p>The format starts with a four byte marker and a version number, and a reader only reads
+ * the versions it knows. Every number is written as a variable length integer, seven bits to
+ * a byte, and offsets are written as the distance from the offset before them, so most take
+ * a single byte. The word table is sorted, and each word is written as the number of
+ * characters it shares with the word before it followed by the rest of it.
+ *
+ * <p>The format ends with a CRC32 of everything before it. A reader checks every count
+ * against what the text could hold as it reads, and the checksum once it is done, so a
+ * corrupt stream is rejected with an IOException rather than read as wrong results.
+ *
+ * <p>For example, to cache the results of an analysis:
+ * <pre>
+ * byte[] bytes = new ProseResults(prose).toBytes();
+ * ProseResults results = ProseResults.fromBytes(bytes);
+ * </pre>
+ */
+public final class ProseResults {
+
+  /** Version of the binary format written by this class. **/
+  public static final int FORMAT_VERSION = 2;
+
+  /** Marks the start of the binary format: "BKWR". **/
+  private static final int MAGIC = 0x424B5752;
+
+  /** Most values allocated at once while reading, before the stream has shown it has more. **/
+  private static final int CHUNK = 4096;
+
+  private static final int POV_WORD = 0;
+  private static final int FIRST_PERSON_WORD = 1;
+  private static final int SECOND_PERSON_WORD = 2;
+  private static final int THIRD_PERSON_WORD = 3;
+  private static final int DIALOGUE_WORD = 4;
+  private static final int DIALOGUE_SYLLABLE = 5;
+  private static final int DIALOGUE_FIRST_PERSON_WORD = 6;
+  private static final int DIALOGUE_SECOND_PERSON_WORD = 7;
+  private static final int DIALOGUE_THIRD_PERSON_WORD = 8;
+  private static final int NARRATIVE_WORD = 9;
+  private static final int NARRATIVE_SYLLABLE = 10;
+  private static final int NARRATIVE_FIRST_PERSON_WORD = 11;
+  private static final int NARRATIVE_SECOND_PERSON_WORD = 12;
+  private static final int NARRATIVE_THIRD_PERSON_WORD = 13;
+  private static final int POV_INDICATOR = 14;
+  private static final int FIRST_PERSON_INDICATOR = 15;
+  private static final int SECOND_PERSON_INDICATOR = 16;
+  private static final int THIRD_PERSON_INDICATOR = 17;
+  private static final int COUNTERS = 18;
+
+  private final int characterCount;
+  private final int[] counters;
+  private final int[] paragraphStarts;
+  private final int[] paragraphSentenceStarts;
+  private final SentenceIndex sentenceIndex;
+  private final String[] words;
+  private final int[] wordFrequencies;
+  private final int[] dialogueWordFrequencies;
+  private final int[] narrativeWordFrequencies;
+  private final int[] dialogueSpans;
+  private final int[] narrativeSpans;
+
+  /**
+   * Returns the results of an analyzed Prose.
+   *
+   * @param prose  the analyzed Prose
+   */
+  public ProseResults(final Prose prose) {
+    this.characterCount = prose.getInitialCharSequence().length();
+    this.counters = new int[ProseResults.COUNTERS];
+    this.counters[ProseResults.POV_WORD] = prose.getPovWordCount();
+    this.counters[ProseResults.FIRST_PERSON_WORD] = prose.getFirstPersonWordCount();
+    this.counters[ProseResults.SECOND_PERSON_WORD] = prose.getSecondPersonWordCount();
+    this.counters[ProseResults.THIRD_PERSON_WORD] = prose.getThirdPersonWordCount();
+    this.counters[ProseResults.DIALOGUE_WORD] = prose.getDialogueWordCount();
+    this.counters[ProseResults.DIALOGUE_SYLLABLE] = prose.getDialogueSyllableCount();
+    this.counters[ProseResults.DIALOGUE_FIRST_PERSON_WORD] =
+        prose.getDialogueFirstPersonWordCount();
+    this.counters[ProseResults.DIALOGUE_SECOND_PERSON_WORD] =
+        prose.getDialogueSecondPersonWordCount();
+    this.counters[ProseResults.DIALOGUE_THIRD_PERSON_WORD] =
+        prose.getDialogueThirdPersonWordCount();
+    this.counters[ProseResults.NARRATIVE_WORD] = prose.getNarrativeWordCount();
+    this.counters[ProseResults.NARRATIVE_SYLLABLE] = prose.getNarrativeSyllableCount();
+    this.counters[ProseResults.NARRATIVE_FIRST_PERSON_WORD] =
+        prose.getNarrativeFirstPersonWordCount();
+    this.counters[ProseResults.NARRATIVE_SECOND_PERSON_WORD] =
+        prose.getNarrativeSecondPersonWordCount();
+    this.counters[ProseResults.NARRATIVE_THIRD_PERSON_WORD] =
+        prose.getNarrativeThirdPersonWordCount();
+    this.counters[ProseResults.POV_INDICATOR] = prose.getPovIndicatorCount();
+    this.counters[ProseResults.FIRST_PERSON_INDICATOR] = prose.getFirstPersonIndicatorCount();
+    this.counters[ProseResults.SECOND_PERSON_INDICATOR] = prose.getSecondPersonIndicatorCount();
+    this.counters[ProseResults.THIRD_PERSON_INDICATOR] = prose.getThirdPersonIndicatorCount();
+
+    this.paragraphStarts = prose.getParagraphStarts().clone();
+    this.paragraphSentenceStarts = new int[this.paragraphStarts.length + 1];
+    for (int i = 0; i < this.paragraphStarts.length; i++) {
+      this.paragraphSentenceStarts[i + 1] = this.paragraphSentenceStarts[i]
+          + prose.getParagraphs().get(i).getSentenceCount();
+    }
+    this.sentenceIndex = prose.getSentenceIndex();
+
+    // Every word found in a Sentence or a fragment, in sorted order.
+    final Map<String, int[]> table = new TreeMap<String, int[]>();
+    ProseResults.addFrequencies(table, prose.getWordFrequency(), 0);
+    ProseResults.addFrequencies(table, prose.getDialogueWordFrequency(), 1);
+    ProseResults.addFrequencies(table, prose.getNarrativeWordFrequency(), 2);
+    this.words = table.keySet().toArray(new String[table.size()]);
+    this.wordFrequencies = new int[this.words.length];
+    this.dialogueWordFrequencies = new int[this.words.length];
+    this.narrativeWordFrequencies = new int[this.words.length];
+    for (int i = 0; i < this.words.length; i++) {
+      final int[] frequencies = table.get(this.words[i]);
+      this.wordFrequencies[i] = frequencies[0];
+      this.dialogueWordFrequencies[i] = frequencies[1];
+      this.narrativeWordFrequencies[i] = frequencies[2];
+    }
+
+    this.dialogueSpans = prose.getDialogueSpans().clone();
+    this.narrativeSpans =
+        DialogueScanner.findNarrativeSpans(this.dialogueSpans, this.characterCount);
+  }
+
+  private static void addFrequencies(final Map<String, int[]> table,
+      final Map<Word, Integer> frequencies, final int column) {
+    frequencies.forEach( (word, frequency) -> {
+      table.computeIfAbsent(word.getNormalizedText(), w -> new int[3])[column] += frequency;
+    });
+  }
+
+  private ProseResults(final DataInputStream in) throws IOException {
+    if (in.readInt() != ProseResults.MAGIC) {
+      throw new IOException("Not a ProseResults stream");
+    }
+    final int version = ProseResults.readVarInt(in);
+    if (version != ProseResults.FORMAT_VERSION) {
+      throw new IOException("Unsupported ProseResults format version " + version
+          + ", expected " + ProseResults.FORMAT_VERSION);
+    }
+    // Every count is checked against what the text could hold before anything is sized by
+    // it, so a corrupt count fails here rather than as a huge or negative array.
+    this.characterCount = ProseResults.readCount(in, Integer.MAX_VALUE);
+    final int counterCount = ProseResults.readCount(in, Integer.MAX_VALUE);
+    if (counterCount != ProseResults.COUNTERS) {
+      throw new IOException("Expected " + ProseResults.COUNTERS + " counters, found "
+          + counterCount);
+    }
+    this.counters = ProseResults.readVarInts(in, counterCount, Integer.MAX_VALUE);
+
+    final int paragraphCount = ProseResults.readCount(in, this.characterCount);
+    this.paragraphStarts = ProseResults.readDeltas(in, paragraphCount, this.characterCount);
+    this.paragraphSentenceStarts = new int[paragraphCount + 1];
+    for (int i = 0; i < paragraphCount; i++) {
+      this.paragraphSentenceStarts[i + 1] = this.paragraphSentenceStarts[i]
+          + ProseResults.readCount(in, this.characterCount - this.paragraphSentenceStarts[i]);
+    }
+
+    final int sentenceCount = this.paragraphSentenceStarts[paragraphCount];
+    this.sentenceIndex = new SentenceIndex(
+        ProseResults.readVarInts(in, sentenceCount, this.characterCount),
+        ProseResults.readVarInts(in, sentenceCount, Integer.MAX_VALUE),
+        ProseResults.readVarInts(in, sentenceCount, this.characterCount),
+        ProseResults.readVarInts(in, sentenceCount, this.characterCount),
+        ProseResults.readVarInts(in, sentenceCount, this.characterCount));
+
+    final int wordCount = ProseResults.readCount(in, this.characterCount);
+    this.words = new String[wordCount];
+    byte[] previous = new byte[0];
+    for (int i = 0; i < wordCount; i++) {
+      final int shared = ProseResults.readCount(in, previous.length);
+      final int length = ProseResults.readCount(in, Integer.MAX_VALUE - shared);
+      final byte[] word = ProseResults.readBytes(in, previous, shared, length);
+      this.words[i] = new String(word, StandardCharsets.UTF_8);
+      if (i > 0 && this.words[i - 1].compareTo(this.words[i]) >= 0) {
+        throw new IOException("Corrupt ProseResults stream: words out of order");
+      }
+      previous = word;
+    }
+    this.wordFrequencies = ProseResults.readVarInts(in, wordCount, Integer.MAX_VALUE);
+    this.dialogueWordFrequencies = ProseResults.readVarInts(in, wordCount, Integer.MAX_VALUE);
+    this.narrativeWordFrequencies = ProseResults.readVarInts(in, wordCount, Integer.MAX_VALUE);
+
+    final int dialogueCount = ProseResults.readCount(in, this.characterCount);
+    this.dialogueSpans = ProseResults.readDeltas(in, 2 * dialogueCount, this.characterCount);
+    this.narrativeSpans =
+        DialogueScanner.findNarrativeSpans(this.dialogueSpans, this.characterCount);
+  }
+
+  /**
+   * Reads results written by {@link #write(OutputStream)}, leaving the stream just past them.
+   *
+   * @param in  stream to read from
+   * @return the results read
+   * @throws IOException if the stream cannot be read, or does not hold results in a known
+   *     version of the format
+   */
+  public static final ProseResults read(final InputStream in) throws IOException {
+    final CheckedInputStream checked = new CheckedInputStream(in, new CRC32());
+    final ProseResults results = new ProseResults(new DataInputStream(checked));
+    final long checksum = checked.getChecksum().getValue();
+    if ((new DataInputStream(in).readInt() & 0xFFFFFFFFL) != checksum) {
+      throw new IOException("Corrupt ProseResults stream: checksum does not match");
+    }
+    return results;
+  }
+
+  /**
+   * Reads results from the bytes returned by {@link #toBytes()}.
+   *
+   * @param bytes  results in the binary format
+   * @return the results read
+   * @throws IOException if bytes do not hold results in a known version of the format
+   */
+  public static final ProseResults fromBytes(final byte[] bytes) throws IOException {
+    return ProseResults.read(new ByteArrayInputStream(bytes));
+  }
+
+  /**
+   * Writes the results in the binary format.
+   *
+   * @param out  stream to write to
+   * @throws IOException if the stream cannot be written
+   */
+  public final void write(final OutputStream out) throws IOException {
+    final CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+    final DataOutputStream data = new DataOutputStream(checked);
+    data.writeInt(ProseResults.MAGIC);
+    ProseResults.writeVarInt(data, ProseResults.FORMAT_VERSION);
+    ProseResults.writeVarInt(data, this.characterCount);
+    ProseResults.writeVarInt(data, this.counters.length);
+    ProseResults.writeVarInts(data, this.counters);
+
+    ProseResults.writeVarInt(data, this.paragraphStarts.length);
+    ProseResults.writeDeltas(data, this.paragraphStarts);
+    for (int i = 0; i < this.paragraphStarts.length; i++) {
+      ProseResults.writeVarInt(data, this.getParagraphSentenceCount(i));
+    }
+
+    final int sentenceCount = this.sentenceIndex.getSentenceCount();
+    for (int i = 0; i < sentenceCount; i++) {
+      ProseResults.writeVarInt(data, this.sentenceIndex.getWordCount(i, i + 1));
+    }
+    for (int i = 0; i < sentenceCount; i++) {
+      ProseResults.writeVarInt(data, this.sentenceIndex.getSyllableCount(i, i + 1));
+    }
+    for (int i = 0; i < sentenceCount; i++) {
+      ProseResults.writeVarInt(data, this.sentenceIndex.getWordCharacterCount(i, i + 1));
+    }
+    for (int i = 0; i < sentenceCount; i++) {
+      ProseResults.writeVarInt(data, this.sentenceIndex.getComplexWordCount(i, i + 1));
+    }
+    for (int i = 0; i < sentenceCount; i++) {
+      ProseResults.writeVarInt(data, this.sentenceIndex.getLongWordCount(i, i + 1));
+    }
+
+    ProseResults.writeVarInt(data, this.words.length);
+    byte[] previous = new byte[0];
+    for (String word : this.words) {
+      final byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+      int shared = 0;
+      while (shared < previous.length && shared < bytes.length
+          && previous[shared] == bytes[shared]) {
+        shared++;
+      }
+      ProseResults.writeVarInt(data, shared);
+      ProseResults.writeVarInt(data, bytes.length - shared);
+      data.write(bytes, shared, bytes.length - shared);
+      previous = bytes;
+    }
+    ProseResults.writeVarInts(data, this.wordFrequencies);
+    ProseResults.writeVarInts(data, this.dialogueWordFrequencies);
+    ProseResults.writeVarInts(data, this.narrativeWordFrequencies);
+
+    ProseResults.writeVarInt(data, this.dialogueSpans.length / 2);
+    ProseResults.writeDeltas(data, this.dialogueSpans);
+    data.flush();
+    final DataOutputStream trailer = new DataOutputStream(out);
+    trailer.writeInt((int) checked.getChecksum().getValue());
+    trailer.flush();
+  }
+
+  /**
+   * Returns the results in the binary format.
+   *
+   * @return the results as bytes
+   */
+  public final byte[] toBytes() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      this.write(out);
+    } catch (IOException e) {
+      // A ByteArrayOutputStream never throws.
+      throw new IllegalStateException(e);
+    }
+    return out.toByteArray();
+  }
+
+  private static void writeVarInt(final DataOutputStream out, final int value)
+      throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.writeByte(remaining);
+  }
+
+  private static void writeVarInts(final DataOutputStream out, final int[] values)
+      throws IOException {
+    for (int value : values) {
+      ProseResults.writeVarInt(out, value);
+    }
+  }
+
+  /**
+   * Writes ascending offsets as the distance of each from the one before it.
+   *
+   * @param out  stream to write to
+   * @param offsets  ascending offsets
+   * @throws IOException if the stream cannot be written
+   */
+  private static void writeDeltas(final DataOutputStream out, final int[] offsets)
+      throws IOException {
+    int previous = 0;
+    for (int offset : offsets) {
+      ProseResults.writeVarInt(out, offset - previous);
+      previous = offset;
+    }
+  }
+
+  private static int readVarInt(final DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      final int b = in.read();
+      if (b < 0) {
+        throw new EOFException("ProseResults stream ended early");
+      }
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed variable length integer in ProseResults stream");
+  }
+
+  /**
+   * Reads a count, which must be from zero to max.
+   *
+   * @param in  stream to read from
+   * @param max  largest count allowed
+   * @return the count read
+   * @throws IOException if the stream cannot be read, or the count is out of range
+   */
+  private static int readCount(final DataInputStream in, final int max) throws IOException {
+    final int count = ProseResults.readVarInt(in);
+    if (count < 0 || count > max) {
+      throw new IOException("Corrupt ProseResults stream: " + count + " is not from 0 to "
+          + max);
+    }
+    return count;
+  }
+
+  /**
+   * Reads a number of counts, each from zero to max. The array grows as counts are read,
+   * so a count larger than the stream holds fails at the end of the stream rather than by
+   * allocating it up front.
+   *
+   * @param in  stream to read from
+   * @param count  number of counts to read
+   * @param max  largest count allowed
+   * @return the counts read
+   * @throws IOException if the stream cannot be read, or a count is out of range
+   */
+  private static int[] readVarInts(final DataInputStream in, final int count, final int max)
+      throws IOException {
+    int[] values = new int[Math.min(count, ProseResults.CHUNK)];
+    for (int i = 0; i < count; i++) {
+      if (i == values.length) {
+        values = Arrays.copyOf(values, (int) Math.min(count, 2L * values.length));
+      }
+      values[i] = ProseResults.readCount(in, max);
+    }
+    return values;
+  }
+
+  /**
+   * Reads ascending offsets written by {@link #writeDeltas(DataOutputStream, int[])}, none of
+   * them past limit.
+   */
+  private static int[] readDeltas(final DataInputStream in, final int count, final int limit)
+      throws IOException {
+    final int[] offsets = ProseResults.readVarInts(in, count, limit);
+    for (int i = 1; i < count; i++) {
+      if (offsets[i] > limit - offsets[i - 1]) {
+        throw new IOException("Corrupt ProseResults stream: offset past " + limit);
+      }
+      offsets[i] += offsets[i - 1];
+    }
+    return offsets;
+  }
+
+  /**
+   * Reads the rest of a word, after the bytes it shares with the word before it. Like
+   * {@link #readVarInts(DataInputStream, int, int)}, the word grows as it is read.
+   */
+  private static byte[] readBytes(final DataInputStream in, final byte[] previous,
+      final int shared, final int length) throws IOException {
+    byte[] bytes = Arrays.copyOf(previous, shared + Math.min(length, ProseResults.CHUNK));
+    int read = shared;
+    final int end = shared + length;
+    while (read < end) {
+      if (read == bytes.length) {
+        bytes = Arrays.copyOf(bytes, (int) Math.min(end, 2L * bytes.length));
+      }
+      in.readFully(bytes, read, bytes.length - read);
+      read = bytes.length;
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns the number of characters in the analyzed text.
+   *
+   * @return the length of the analyzed text
+   */
+  public final Integer getCharacterCount() {
+    return this.characterCount;
+  }
+
+  public final Integer getWordCount() {
+    return this.sentenceIndex.getWordCount(0, this.sentenceIndex.getSentenceCount());
+  }
+
+  public final Integer getSyllableCount() {
+    return this.sentenceIndex.getSyllableCount(0, this.sentenceIndex.getSentenceCount());
+  }
+
+  public final Integer getWordCharacterCount() {
+    return this.sentenceIndex.getWordCharacterCount(0, this.sentenceIndex.getSentenceCount());
+  }
+
+  public final Integer getComplexWordCount() {
+    return this.sentenceIndex.getComplexWordCount(0, this.sentenceIndex.getSentenceCount());
+  }
+
+  public final Integer getLongWordCount() {
+    return this.sentenceIndex.getLongWordCount(0, this.sentenceIndex.getSentenceCount());
+  }
+
+  public final Integer getSentenceCount() {
+    return this.sentenceIndex.getSentenceCount();
+  }
+
+  public final Integer getParagraphCount() {
+    return this.paragraphStarts.length;
+  }
+
+  public final Integer getPovWordCount() {
+    return this.counters[ProseResults.POV_WORD];
+  }
+
+  public final Integer getFirstPersonWordCount() {
+    return this.counters[ProseResults.FIRST_PERSON_WORD];
+  }
+
+  public final Integer getSecondPersonWordCount() {
+    return this.counters[ProseResults.SECOND_PERSON_WORD];
+  }
+
+  public final Integer getThirdPersonWordCount() {
+    return this.counters[ProseResults.THIRD_PERSON_WORD];
+  }
+
+  public final Integer getDialogueWordCount() {
+    return this.counters[ProseResults.DIALOGUE_WORD];
+  }
+
+  public final Integer getDialogueSyllableCount() {
+    return this.counters[ProseResults.DIALOGUE_SYLLABLE];
+  }
+
+  public final Integer getDialogueFirstPersonWordCount() {
+    return this.counters[ProseResults.DIALOGUE_FIRST_PERSON_WORD];
+  }
+
+  public final Integer getDialogueSecondPersonWordCount() {
+    return this.counters[ProseResults.DIALOGUE_SECOND_PERSON_WORD];
+  }
+
+  public final Integer getDialogueThirdPersonWordCount() {
+    return this.counters[ProseResults.DIALOGUE_THIRD_PERSON_WORD];
+  }
+
+  public final Integer getNarrativeWordCount() {
+    return this.counters[ProseResults.NARRATIVE_WORD];
+  }
+
+  public final Integer getNarrativeSyllableCount() {
+    return this.counters[ProseResults.NARRATIVE_SYLLABLE];
+  }
+
+  public final Integer getNarrativeFirstPersonWordCount() {
+    return this.counters[ProseResults.NARRATIVE_FIRST_PERSON_WORD];
+  }
+
+  public final Integer getNarrativeSecondPersonWordCount() {
+    return this.counters[ProseResults.NARRATIVE_SECOND_PERSON_WORD];
+  }
+
+  public final Integer getNarrativeThirdPersonWordCount() {
+    return this.counters[ProseResults.NARRATIVE_THIRD_PERSON_WORD];
+  }
+
+  public final Integer getPovIndicatorCount() {
+    return this.counters[ProseResults.POV_INDICATOR];
+  }
+
+  public final Integer getFirstPersonIndicatorCount() {
+    return this.counters[ProseResults.FIRST_PERSON_INDICATOR];
+  }
+
+  public final Integer getSecondPersonIndicatorCount() {
+    return this.counters[ProseResults.SECOND_PERSON_INDICATOR];
+  }
+
+  public final Integer getThirdPersonIndicatorCount() {
+    return this.counters[ProseResults.THIRD_PERSON_INDICATOR];
+  }
+
+  /**
+   * Returns the Point of View of the prose, decided the same way as Prose decides it.
+   *
+   * @return the Point of View of the prose as an PovType.
+   * @see Prose#getPov()
+   */
+  public final PovType getPov() {
+    if (this.getNarrativeFirstPersonWordCount() > 0) {
+      return PovType.FIRST;
+    } else if (this.getNarrativeSecondPersonWordCount() > 0) {
+      return PovType.SECOND;
+    } else if (this.getNarrativeThirdPersonWordCount() > 0) {
+      return PovType.THIRD;
+    } else {
+      return PovType.UNKNOWN;
+    }
+  }
+
+  public final ReadabilityScores getReadabilityScores() {
+    return this.getReadabilityScores(0, this.getSentenceCount());
+  }
+
+  /**
+   * Returns ReadabilityScores for a range of Sentences.
+   *
+   * @param fromSentence  index of the first Sentence of the range, inclusive
+   * @param toSentence  index of the last Sentence of the range, exclusive
+   * @return ReadabilityScores for the Sentences in the range
+   * @see Prose#getReadabilityScores(int, int)
+   */
+  public final ReadabilityScores getReadabilityScores(final int fromSentence,
+      final int toSentence) {
+    return this.sentenceIndex.getReadabilityScores(fromSentence, toSentence);
+  }
+
+  /**
+   * Returns the offset into the text of the start of a Paragraph.
+   *
+   * @param paragraph  index of the Paragraph
+   * @return offset of the start of the Paragraph
+   */
+  public final Integer getParagraphStart(final int paragraph) {
+    return this.paragraphStarts[paragraph];
+  }
+
+  public final Integer getParagraphSentenceCount(final int paragraph) {
+    return this.paragraphSentenceStarts[paragraph + 1] - this.paragraphSentenceStarts[paragraph];
+  }
+
+  /**
+   * Returns ReadabilityScores for a single Paragraph.
+   *
+   * @param paragraph  index of the Paragraph
+   * @return ReadabilityScores for the Sentences of the Paragraph
+   */
+  public final ReadabilityScores getParagraphReadabilityScores(final int paragraph) {
+    return this.getReadabilityScores(this.paragraphSentenceStarts[paragraph],
+        this.paragraphSentenceStarts[paragraph + 1]);
+  }
+
+  /**
+   * Returns every unique word found in a Sentence, dialogue or narrative, in its normalized
+   * form, in sorted order.
+   *
+   * @return an unmodifiable list of the unique words
+   */
+  public final List<String> getUniqueWords() {
+    return Collections.unmodifiableList(Arrays.asList(this.words));
+  }
+
+  /**
+   * Get the number of times a word appears in the Prose's Sentences.
+   *
+   * @param word  a word in its normalized form
+   * @return the number of times word appears
+   */
+  public final Integer getWordFrequency(final String word) {
+    return ProseResults.frequency(this.words, this.wordFrequencies, word);
+  }
+
+  /**
+   * Get the number of times a word appears in dialogue.
+   *
+   * @param word  a word in its normalized form
+   * @return the number of times word appears in dialogue
+   */
+  public final Integer getDialogueWordFrequency(final String word) {
+    return ProseResults.frequency(this.words, this.dialogueWordFrequencies, word);
+  }
+
+  /**
+   * Get the number of times a word appears in narrative.
+   *
+   * @param word  a word in its normalized form
+   * @return the number of times word appears in narrative
+   */
+  public final Integer getNarrativeWordFrequency(final String word) {
+    return ProseResults.frequency(this.words, this.narrativeWordFrequencies, word);
+  }
+
+  private static int frequency(final String[] words, final int[] frequencies,
+      final String word) {
+    final int index = Arrays.binarySearch(words, word);
+    return (index >= 0) ? frequencies[index] : 0;
+  }
+
+  /**
+   * Returns the start and end offset pairs of every dialogue fragment.
+   *
+   * @return a copy of the spans of dialogue
+   */
+  public final int[] getDialogueSpans() {
+    return this.dialogueSpans.clone();
+  }
+
+  /**
+   * Returns the start and end offset pairs of every narrative fragment.
+   *
+   * @return a copy of the spans of narrative
+   */
+  public final int[] getNarrativeSpans() {
+    return this.narrativeSpans.clone();
+  }
+
+}
@@ -0,0 +1,315 @@
+package com.prosegrinder.bookworm.util;
+
+import com.prosegrinder.bookworm.enums.PovType;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The counts of an analyzed Prose, in a form that can be merged with the counts of other
+ * Prose and sent between processes.
+ *
+ * <p>Holds every count a Container and a Prose expose, including the counts of dialogue,
+ * narrative and point of view indicators, along with how often each word appears. Counts are
+ * held as longs, so the counts of an entire corpus fit.
+ *
+ * <p>ProseStats are immutable, and merging is associative and commutative, with
+ * {@link #EMPTY} as its identity, so stats may be merged in any grouping and any order, for
+ * example by a reduce across shards:
+ * <pre>
+ * ProseStats total = parts.stream().map(ProseStats::new)
+ *     .reduce(ProseStats.EMPTY, ProseStats::merge);
+ * </pre>
+ *
+ * <p>When a text is split into parts, and every part but the last ends with the line break
+ * that ends a Paragraph (or with a blank line, for {@link
+ * com.prosegrinder.bookworm.enums.ParagraphStyle#BLANK_LINE}), the merged stats of the parts
+ * are exactly the stats of the entire text. Nothing that is counted spans a line break:
+ * Paragraphs, Sentences and Words are found within lines, and dialogue always ends at a line
+ * break.
+ */
+public final class ProseStats implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /** Stats of no text at all, the identity of merge. **/
+  public static final ProseStats EMPTY = new ProseStats(new long[ProseStats.COUNTERS],
+      Collections.<String, Long>emptyMap());
+
+  private static final int WORD_CHARACTER = 0;
+  private static final int SYLLABLE = 1;
+  private static final int WORD = 2;
+  private static final int COMPLEX_WORD = 3;
+  private static final int LONG_WORD = 4;
+  private static final int POV_WORD = 5;
+  private static final int FIRST_PERSON_WORD = 6;
+  private static final int SECOND_PERSON_WORD = 7;
+  private static final int THIRD_PERSON_WORD = 8;
+  private static final int SENTENCE = 9;
+  private static final int PARAGRAPH = 10;
+  private static final int DIALOGUE_SYLLABLE = 11;
+  private static final int DIALOGUE_WORD = 12;
+  private static final int DIALOGUE_FIRST_PERSON_WORD = 13;
+  private static final int DIALOGUE_SECOND_PERSON_WORD = 14;
+  private static final int DIALOGUE_THIRD_PERSON_WORD = 15;
+  private static final int NARRATIVE_SYLLABLE = 16;
+  private static final int NARRATIVE_WORD = 17;
+  private static final int NARRATIVE_FIRST_PERSON_WORD = 18;
+  private static final int NARRATIVE_SECOND_PERSON_WORD = 19;
+  private static final int NARRATIVE_THIRD_PERSON_WORD = 20;
+  private static final int POV_INDICATOR = 21;
+  private static final int FIRST_PERSON_INDICATOR = 22;
+  private static final int SECOND_PERSON_INDICATOR = 23;
+  private static final int THIRD_PERSON_INDICATOR = 24;
+  private static final int COUNTERS = 25;
+
+  private final long[] counters;
+  private final Map<String, Long> wordFrequency;
+
+  /**
+   * Returns the stats of an analyzed Prose.
+   *
+   * @param prose  the analyzed Prose
+   */
+  public ProseStats(final Prose prose) {
+    this.counters = new long[ProseStats.COUNTERS];
+    this.counters[ProseStats.WORD_CHARACTER] = prose.getWordCharacterCount();
+    this.counters[ProseStats.SYLLABLE] = prose.getSyllableCount();
+    this.counters[ProseStats.WORD] = prose.getWordCount();
+    this.counters[ProseStats.COMPLEX_WORD] = prose.getComplexWordCount();
+    this.counters[ProseStats.LONG_WORD] = prose.getLongWordCount();
+    this.counters[ProseStats.POV_WORD] = prose.getPovWordCount();
+    this.counters[ProseStats.FIRST_PERSON_WORD] = prose.getFirstPersonWordCount();
+    this.counters[ProseStats.SECOND_PERSON_WORD] = prose.getSecondPersonWordCount();
+    this.counters[ProseStats.THIRD_PERSON_WORD] = prose.getThirdPersonWordCount();
+    this.counters[ProseStats.SENTENCE] = prose.getSentenceCount();
+    this.counters[ProseStats.PARAGRAPH] = prose.getParagraphCount();
+    this.counters[ProseStats.DIALOGUE_SYLLABLE] = prose.getDialogueSyllableCount();
+    this.counters[ProseStats.DIALOGUE_WORD] = prose.getDialogueWordCount();
+    this.counters[ProseStats.DIALOGUE_FIRST_PERSON_WORD] =
+        prose.getDialogueFirstPersonWordCount();
+    this.counters[ProseStats.DIALOGUE_SECOND_PERSON_WORD] =
+        prose.getDialogueSecondPersonWordCount();
+    this.counters[ProseStats.DIALOGUE_THIRD_PERSON_WORD] =
+        prose.getDialogueThirdPersonWordCount();
+    this.counters[ProseStats.NARRATIVE_SYLLABLE] = prose.getNarrativeSyllableCount();
+    this.counters[ProseStats.NARRATIVE_WORD] = prose.getNarrativeWordCount();
+    this.counters[ProseStats.NARRATIVE_FIRST_PERSON_WORD] =
+        prose.getNarrativeFirstPersonWordCount();
+    this.counters[ProseStats.NARRATIVE_SECOND_PERSON_WORD] =
+        prose.getNarrativeSecondPersonWordCount();
+    this.counters[ProseStats.NARRATIVE_THIRD_PERSON_WORD] =
+        prose.getNarrativeThirdPersonWordCount();
+    this.counters[ProseStats.POV_INDICATOR] = prose.getPovIndicatorCount();
+    this.counters[ProseStats.FIRST_PERSON_INDICATOR] = prose.getFirstPersonIndicatorCount();
+    this.counters[ProseStats.SECOND_PERSON_INDICATOR] = prose.getSecondPersonIndicatorCount();
+    this.counters[ProseStats.THIRD_PERSON_INDICATOR] = prose.getThirdPersonIndicatorCount();
+    final Map<String, Long> wordFrequency = new HashMap<String, Long>();
+    prose.getWordFrequency().forEach( (word, frequency) -> {
+      wordFrequency.put(word.getNormalizedText(), frequency.longValue());
+    });
+    this.wordFrequency = Collections.unmodifiableMap(wordFrequency);
+  }
+
+  private ProseStats(final long[] counters, final Map<String, Long> wordFrequency) {
+    this.counters = counters;
+    this.wordFrequency = wordFrequency;
+  }
+
+  /**
+   * Returns the stats of this and another ProseStats taken together.
+   *
+   * @param other  stats to merge with these
+   * @return the merged stats
+   */
+  public final ProseStats merge(final ProseStats other) {
+    final long[] counters = new long[ProseStats.COUNTERS];
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] = this.counters[i] + other.counters[i];
+    }
+    // Copy the larger table and add the smaller one into it.
+    final boolean larger = this.wordFrequency.size() >= other.wordFrequency.size();
+    final Map<String, Long> wordFrequency =
+        new HashMap<String, Long>(larger ? this.wordFrequency : other.wordFrequency);
+    (larger ? other.wordFrequency : this.wordFrequency).forEach( (word, frequency) -> {
+      wordFrequency.merge(word, frequency, Long::sum);
+    });
+    return new ProseStats(counters, Collections.unmodifiableMap(wordFrequency));
+  }
+
+  public final Long getWordCharacterCount() {
+    return this.counters[ProseStats.WORD_CHARACTER];
+  }
+
+  public final Long getSyllableCount() {
+    return this.counters[ProseStats.SYLLABLE];
+  }
+
+  public final Long getWordCount() {
+    return this.counters[ProseStats.WORD];
+  }
+
+  public final Long getComplexWordCount() {
+    return this.counters[ProseStats.COMPLEX_WORD];
+  }
+
+  public final Long getLongWordCount() {
+    return this.counters[ProseStats.LONG_WORD];
+  }
+
+  public final Long getPovWordCount() {
+    return this.counters[ProseStats.POV_WORD];
+  }
+
+  public final Long getFirstPersonWordCount() {
+    return this.counters[ProseStats.FIRST_PERSON_WORD];
+  }
+
+  public final Long getSecondPersonWordCount() {
+    return this.counters[ProseStats.SECOND_PERSON_WORD];
+  }
+
+  public final Long getThirdPersonWordCount() {
+    return this.counters[ProseStats.THIRD_PERSON_WORD];
+  }
+
+  public final Long getSentenceCount() {
+    return this.counters[ProseStats.SENTENCE];
+  }
+
+  public final Long getParagraphCount() {
+    return this.counters[ProseStats.PARAGRAPH];
+  }
+
+  public final Long getDialogueSyllableCount() {
+    return this.counters[ProseStats.DIALOGUE_SYLLABLE];
+  }
+
+  public final Long getDialogueWordCount() {
+    return this.counters[ProseStats.DIALOGUE_WORD];
+  }
+
+  public final Long getDialogueFirstPersonWordCount() {
+    return this.counters[ProseStats.DIALOGUE_FIRST_PERSON_WORD];
+  }
+
+  public final Long getDialogueSecondPersonWordCount() {
+    return this.counters[ProseStats.DIALOGUE_SECOND_PERSON_WORD];
+  }
+
+  public final Long getDialogueThirdPersonWordCount() {
+    return this.counters[ProseStats.DIALOGUE_THIRD_PERSON_WORD];
+  }
+
+  public final Long getNarrativeSyllableCount() {
+    return this.counters[ProseStats.NARRATIVE_SYLLABLE];
+  }
+
+  public final Long getNarrativeWordCount() {
+    return this.counters[ProseStats.NARRATIVE_WORD];
+  }
+
+  public final Long getNarrativeFirstPersonWordCount() {
+    return this.counters[ProseStats.NARRATIVE_FIRST_PERSON_WORD];
+  }
+
+  public final Long getNarrativeSecondPersonWordCount() {
+    return this.counters[ProseStats.NARRATIVE_SECOND_PERSON_WORD];
+  }
+
+  public final Long getNarrativeThirdPersonWordCount() {
+    return this.counters[ProseStats.NARRATIVE_THIRD_PERSON_WORD];
+  }
+
+  public final Long getPovIndicatorCount() {
+    return this.counters[ProseStats.POV_INDICATOR];
+  }
+
+  public final Long getFirstPersonIndicatorCount() {
+    return this.counters[ProseStats.FIRST_PERSON_INDICATOR];
+  }
+
+  public final Long getSecondPersonIndicatorCount() {
+    return this.counters[ProseStats.SECOND_PERSON_INDICATOR];
+  }
+
+  public final Long getThirdPersonIndicatorCount() {
+    return this.counters[ProseStats.THIRD_PERSON_INDICATOR];
+  }
+
+  /**
+   * Returns how often each word appears, keyed by the word's normalized form.
+   *
+   * @return an unmodifiable map of each word to the number of times it appears
+   */
+  public final Map<String, Long> getWordFrequency() {
+    return this.wordFrequency;
+  }
+
+  /**
+   * Get the number of times a word appears.
+   *
+   * @param word  a word in its normalized form
+   * @return the number of times word appears
+   */
+  public final Long getWordFrequency(final String word) {
+    return this.wordFrequency.getOrDefault(word, 0L);
+  }
+
+  public final Integer getUniqueWordCount() {
+    return this.wordFrequency.size();
+  }
+
+  /**
+   * Returns the Point of View, decided the same way as Prose decides it.
+   *
+   * @return the Point of View as an PovType.
+   * @see Prose#getPov()
+   */
+  public final PovType getPov() {
+    if (this.getNarrativeFirstPersonWordCount() > 0) {
+      return PovType.FIRST;
+    } else if (this.getNarrativeSecondPersonWordCount() > 0) {
+      return PovType.SECOND;
+    } else if (this.getNarrativeThirdPersonWordCount() > 0) {
+      return PovType.THIRD;
+    } else {
+      return PovType.UNKNOWN;
+    }
+  }
+
+  /**
+   * Returns ReadabilityScores for the merged text.
+   *
+   * @return ReadabilityScores for the merged text
+   * @throws ArithmeticException if a count is too large for ReadabilityScores
+   */
+  public final ReadabilityScores getReadabilityScores() {
+    return new ReadabilityScores(Math.toIntExact(this.getWordCharacterCount()),
+        Math.toIntExact(this.getComplexWordCount()), Math.toIntExact(this.getLongWordCount()),
+        Math.toIntExact(this.getSentenceCount()), Math.toIntExact(this.getSyllableCount()),
+        Math.toIntExact(this.getWordCount()));
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof ProseStats)) {
+      return false;
+    }
+    final ProseStats rhs = (ProseStats) object;
+    return Arrays.equals(this.counters, rhs.counters)
+        && this.wordFrequency.equals(rhs.wordFrequency);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(this.counters) + this.wordFrequency.hashCode();
+  }
+
+}
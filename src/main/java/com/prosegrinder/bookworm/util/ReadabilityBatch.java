@@ -0,0 +1,221 @@
+package com.prosegrinder.bookworm.util;
+
+/**
+ * Readability scores for many texts at once, held as columns of primitive doubles.
+ *
+ * <p>The counts behind the scores are given as columns of primitive ints, one row per text (a
+ * chapter, a window, a document), and every score of every row is computed in a single loop
+ * without boxing and without an object per row. Scores are computed with exactly the same
+ * arithmetic as ReadabilityScores, so a row's scores are equal to the scores of a
+ * ReadabilityScores made from the same counts.
+ *
+ * <p>For example, to score every chapter of a corpus:
+ * <pre>
+ * ReadabilityBatch scores = new ReadabilityBatch(chapterCount).score(characterCounts,
+ *     complexWordCounts, longWordCounts, sentenceCounts, syllableCounts, wordCounts);
+ * double[] fleschReadingEase = scores.getFleschReadingEase();
+ * </pre>
+ *
+ * @see ReadabilityScores
+ */
+public final class ReadabilityBatch {
+
+  private final double[] automatedReadabilityIndex;
+  private final double[] colemanLiauIndex;
+  private final double[] fleschKincaidGradeLevel;
+  private final double[] fleschReadingEase;
+  private final double[] gunningFogIndex;
+  private final double[] lix;
+  private final double[] rix;
+  private final double[] smog;
+
+  /**
+   * Create a new ReadabilityBatch with room for a number of rows, all scored 0.
+   *
+   * @param size  number of rows
+   */
+  public ReadabilityBatch(final int size) {
+    this.automatedReadabilityIndex = new double[size];
+    this.colemanLiauIndex = new double[size];
+    this.fleschKincaidGradeLevel = new double[size];
+    this.fleschReadingEase = new double[size];
+    this.gunningFogIndex = new double[size];
+    this.lix = new double[size];
+    this.rix = new double[size];
+    this.smog = new double[size];
+  }
+
+  /**
+   * Scores every row from columns of counts, one row per index.
+   *
+   * @param characterCounts  count of word characters in each row
+   * @param complexWordCounts  count of complex words in each row
+   * @param longWordCounts  count of long words in each row
+   * @param sentenceCounts  count of sentences in each row
+   * @param syllableCounts  count of syllables in each row
+   * @param wordCounts  count of words in each row
+   * @return this ReadabilityBatch
+   * @throws IllegalArgumentException if any column's length differs from the number of rows
+   */
+  public final ReadabilityBatch score(final int[] characterCounts,
+      final int[] complexWordCounts, final int[] longWordCounts, final int[] sentenceCounts,
+      final int[] syllableCounts, final int[] wordCounts) {
+    final int size = this.size();
+    if (characterCounts.length != size || complexWordCounts.length != size
+        || longWordCounts.length != size || sentenceCounts.length != size
+        || syllableCounts.length != size || wordCounts.length != size) {
+      throw new IllegalArgumentException("Every column must have " + size + " rows");
+    }
+    for (int i = 0; i < size; i++) {
+      final int characterCount = characterCounts[i];
+      final int complexWordCount = complexWordCounts[i];
+      final int longWordCount = longWordCounts[i];
+      final int sentenceCount = sentenceCounts[i];
+      final int syllableCount = syllableCounts[i];
+      final int wordCount = wordCounts[i];
+      this.automatedReadabilityIndex[i] = ReadabilityBatch.automatedReadabilityIndex(
+          characterCount, wordCount, sentenceCount);
+      this.colemanLiauIndex[i] = ReadabilityBatch.colemanLiauIndex(
+          characterCount, wordCount, sentenceCount);
+      this.fleschKincaidGradeLevel[i] = ReadabilityBatch.fleschKincaidGradeLevel(
+          sentenceCount, wordCount, syllableCount);
+      this.fleschReadingEase[i] = ReadabilityBatch.fleschReadingEase(
+          sentenceCount, wordCount, syllableCount);
+      this.gunningFogIndex[i] = ReadabilityBatch.gunningFogIndex(
+          sentenceCount, wordCount, complexWordCount);
+      this.lix[i] = ReadabilityBatch.lix(wordCount, longWordCount, sentenceCount);
+      this.rix[i] = ReadabilityBatch.rix(longWordCount, sentenceCount);
+      this.smog[i] = ReadabilityBatch.smog(complexWordCount, sentenceCount);
+    }
+    return this;
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return the number of rows, which is also the length of every column
+   */
+  public final int size() {
+    return this.fleschReadingEase.length;
+  }
+
+  public final double[] getAutomatedReadabilityIndex() {
+    return this.automatedReadabilityIndex.clone();
+  }
+
+  public final double[] getColemanLiauIndex() {
+    return this.colemanLiauIndex.clone();
+  }
+
+  public final double[] getFleschKincaidGradeLevel() {
+    return this.fleschKincaidGradeLevel.clone();
+  }
+
+  public final double[] getFleschReadingEase() {
+    return this.fleschReadingEase.clone();
+  }
+
+  public final double[] getGunningFogIndex() {
+    return this.gunningFogIndex.clone();
+  }
+
+  public final double[] getLix() {
+    return this.lix.clone();
+  }
+
+  public final double[] getRix() {
+    return this.rix.clone();
+  }
+
+  public final double[] getSmog() {
+    return this.smog.clone();
+  }
+
+  /*
+   * The formulas, one row at a time. ReadabilityScores computes every score through these, so
+   * both give exactly the same results.
+   */
+
+  static double automatedReadabilityIndex(final int characterCount, final int wordCount,
+      final int sentenceCount) {
+    double score = 0.0;
+    if (wordCount > 0) {
+      final double averageCharactersPerWord = (double) characterCount / (double) wordCount;
+      final double averageWordsPerSentence = (double) wordCount / (double) sentenceCount;
+      score = (4.71 * averageCharactersPerWord)
+              + (0.5 * averageWordsPerSentence) - 21.43;
+    }
+    return score;
+  }
+
+  static double fleschReadingEase(final int sentenceCount, final int wordCount,
+      final int syllableCount) {
+    double score = 0.0;
+    if (wordCount > 0) {
+      final double averageSentenceLength = (double) wordCount / (double) sentenceCount;
+      final double averageSyllablesPerWord = (double) syllableCount / (double) wordCount;
+      score = 206.835 - (1.015 * averageSentenceLength) - (84.6 * averageSyllablesPerWord);
+    }
+    return score;
+  }
+
+  static double fleschKincaidGradeLevel(final int sentenceCount, final int wordCount,
+      final int syllableCount) {
+    double score = 0.0;
+    if (wordCount > 0) {
+      final double averageSentenceLength = (double) wordCount / (double) sentenceCount;
+      final double averageSyllablesPerWord = (double) syllableCount / (double) wordCount;
+      score = (0.39 * averageSentenceLength) + (11.8 * averageSyllablesPerWord) - 15.59;
+    }
+    return score;
+  }
+
+  static double gunningFogIndex(final int sentenceCount, final int wordCount,
+      final int complexWordCount) {
+    double score = 0.0;
+    if (wordCount > 0) {
+      final double averageSentenceLength = (double) wordCount / (double) sentenceCount;
+      final double percentageHardWords = (double) complexWordCount / (double) wordCount * 100;
+      score = 0.4 * (averageSentenceLength + percentageHardWords);
+    }
+    return score;
+  }
+
+  static double smog(final int complexWordCount, final int sentenceCount) {
+    double score = 0.0;
+    if (sentenceCount > 0) {
+      score = (1.0430 * Math.sqrt((double) complexWordCount
+          * (30 / (double) sentenceCount))) + 3.1291;
+    }
+    return score;
+  }
+
+  static double colemanLiauIndex(final int characterCount, final int wordCount,
+      final int sentenceCount) {
+    double score = 0.0;
+    if (wordCount > 0) {
+      final double lettersPerWord = (double) characterCount / (double) wordCount * 100;
+      final double sentencesPerWord = (double) sentenceCount / (double) wordCount * 100;
+      score = (0.0588 * lettersPerWord) - (0.296 * sentencesPerWord) - 15.8;
+    }
+    return score;
+  }
+
+  static double lix(final int wordCount, final int longWordCount, final int sentenceCount) {
+    double score = 0.0;
+    if (wordCount > 0) {
+      score = (double) wordCount / (double) sentenceCount
+          + (100 * (double) longWordCount) / (double) wordCount;
+    }
+    return score;
+  }
+
+  static double rix(final int longWordCount, final int sentenceCount) {
+    double score = 0.0;
+    if (sentenceCount > 0) {
+      score = (double) longWordCount / (double) sentenceCount;
+    }
+    return score;
+  }
+
+}
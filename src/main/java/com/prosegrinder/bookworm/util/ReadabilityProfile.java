@@ -0,0 +1,215 @@
+package com.prosegrinder.bookworm.util;
+
+import java.util.List;
+
+/**
+ * ReadabilityScores over a series of sliding windows across a Prose, showing how readability
+ * changes from the beginning of a text to its end.
+ *
+ * <p>Windows are either a number of Sentences or a number of Words long, and each window
+ * starts a fixed stride after the one before it. Only whole windows are scored; a text shorter
+ * than a single window is scored as one window.
+ *
+ * <p>Each score is held as a series of doubles, one per window, rather than as a
+ * ReadabilityScores object per window, so a profile of a novel stays small. The counts of
+ * every window are taken in a single pass, keeping running counts as the window slides, and
+ * then every window is scored at once by a ReadabilityBatch.
+ *
+ * @see Prose#getReadabilityProfileBySentences(int, int)
+ * @see Prose#getReadabilityProfileByWords(int, int)
+ */
+public final class ReadabilityProfile {
+
+  private final int[] windowStarts;
+  private final int[] windowEnds;
+  private final int[] characterCounts;
+  private final int[] complexWordCounts;
+  private final int[] longWordCounts;
+  private final int[] sentenceCounts;
+  private final int[] syllableCounts;
+  private final int[] wordCounts;
+  private ReadabilityBatch scores;
+
+  private ReadabilityProfile(final int itemCount, final int windowSize, final int stride) {
+    if (windowSize < 1 || stride < 1) {
+      throw new IllegalArgumentException(
+          "windowSize and stride must be at least 1: " + windowSize + ", " + stride);
+    }
+    final int windowCount = (itemCount >= windowSize)
+        ? (itemCount - windowSize) / stride + 1 : Math.min(itemCount, 1);
+    this.windowStarts = new int[windowCount];
+    this.windowEnds = new int[windowCount];
+    for (int i = 0; i < windowCount; i++) {
+      this.windowStarts[i] = i * stride;
+      this.windowEnds[i] = Math.min(i * stride + windowSize, itemCount);
+    }
+    this.characterCounts = new int[windowCount];
+    this.complexWordCounts = new int[windowCount];
+    this.longWordCounts = new int[windowCount];
+    this.sentenceCounts = new int[windowCount];
+    this.syllableCounts = new int[windowCount];
+    this.wordCounts = new int[windowCount];
+  }
+
+  /**
+   * Returns a profile over windows of a number of Sentences.
+   *
+   * @param index  running totals of the Sentences to profile
+   * @param windowSize  number of Sentences in each window
+   * @param stride  number of Sentences between the starts of consecutive windows
+   * @return a profile of the Sentences
+   */
+  static ReadabilityProfile bySentences(final SentenceIndex index, final int windowSize,
+      final int stride) {
+    final ReadabilityProfile profile =
+        new ReadabilityProfile(index.getSentenceCount(), windowSize, stride);
+    for (int i = 0; i < profile.size(); i++) {
+      final int start = profile.windowStarts[i];
+      final int end = profile.windowEnds[i];
+      profile.count(i, index.getWordCharacterCount(start, end),
+          index.getComplexWordCount(start, end), index.getLongWordCount(start, end),
+          end - start, index.getSyllableCount(start, end), index.getWordCount(start, end));
+    }
+    return profile.score();
+  }
+
+  /**
+   * Returns a profile over windows of a number of Words.
+   *
+   * <p>A window's sentence count is the number of Sentences with at least one Word inside the
+   * window, so a window that cuts a Sentence in two counts it as a whole Sentence.
+   *
+   * @param sentences  the Sentences to profile
+   * @param words  the Words of those Sentences, in order
+   * @param windowSize  number of Words in each window
+   * @param stride  number of Words between the starts of consecutive windows
+   * @return a profile of the Words
+   */
+  static ReadabilityProfile byWords(final List<Sentence> sentences, final List<Word> words,
+      final int windowSize, final int stride) {
+    final ReadabilityProfile profile = new ReadabilityProfile(words.size(), windowSize, stride);
+    final boolean[] sentenceEnds = new boolean[words.size()];
+    int position = 0;
+    for (Sentence sentence : sentences) {
+      position += sentence.getWordCount();
+      if (sentence.getWordCount() > 0) {
+        sentenceEnds[position - 1] = true;
+      }
+    }
+    int wordCharacterCount = 0;
+    int complexWordCount = 0;
+    int longWordCount = 0;
+    int sentenceEndCount = 0;
+    int syllableCount = 0;
+    int low = 0;
+    int high = 0;
+    for (int i = 0; i < profile.size(); i++) {
+      for (; high < profile.windowEnds[i]; high++) {
+        final Word word = words.get(high);
+        wordCharacterCount += word.getWordCharacterCount();
+        complexWordCount += word.getComplexWordCount();
+        longWordCount += word.getLongWordCount();
+        sentenceEndCount += sentenceEnds[high] ? 1 : 0;
+        syllableCount += word.getSyllableCount();
+      }
+      for (; low < profile.windowStarts[i]; low++) {
+        final Word word = words.get(low);
+        wordCharacterCount -= word.getWordCharacterCount();
+        complexWordCount -= word.getComplexWordCount();
+        longWordCount -= word.getLongWordCount();
+        sentenceEndCount -= sentenceEnds[low] ? 1 : 0;
+        syllableCount -= word.getSyllableCount();
+      }
+      // The last Sentence counts even when the window ends before it does.
+      final int sentenceCount = sentenceEndCount + (sentenceEnds[high - 1] ? 0 : 1);
+      profile.count(i, wordCharacterCount, complexWordCount, longWordCount, sentenceCount,
+          syllableCount, high - low);
+    }
+    return profile.score();
+  }
+
+  private void count(final int window, final int characterCount, final int complexWordCount,
+      final int longWordCount, final int sentenceCount, final int syllableCount,
+      final int wordCount) {
+    this.characterCounts[window] = characterCount;
+    this.complexWordCounts[window] = complexWordCount;
+    this.longWordCounts[window] = longWordCount;
+    this.sentenceCounts[window] = sentenceCount;
+    this.syllableCounts[window] = syllableCount;
+    this.wordCounts[window] = wordCount;
+  }
+
+  /**
+   * Scores every window at once, once every window has been counted.
+   *
+   * @return this profile
+   */
+  private ReadabilityProfile score() {
+    this.scores = new ReadabilityBatch(this.size()).score(this.characterCounts,
+        this.complexWordCounts, this.longWordCounts, this.sentenceCounts, this.syllableCounts,
+        this.wordCounts);
+    return this;
+  }
+
+  /**
+   * Returns the number of windows in the profile.
+   *
+   * @return the number of windows, which is also the length of every series
+   */
+  public final int size() {
+    return this.windowStarts.length;
+  }
+
+  /**
+   * Returns the index of the first Sentence (or Word) of a window.
+   *
+   * @param window  index of the window
+   * @return the index of the first item of the window, inclusive
+   */
+  public final int getWindowStart(final int window) {
+    return this.windowStarts[window];
+  }
+
+  /**
+   * Returns the index just past the last Sentence (or Word) of a window.
+   *
+   * @param window  index of the window
+   * @return the index of the last item of the window, exclusive
+   */
+  public final int getWindowEnd(final int window) {
+    return this.windowEnds[window];
+  }
+
+  public final double[] getAutomatedReadabilityIndex() {
+    return this.scores.getAutomatedReadabilityIndex();
+  }
+
+  public final double[] getColemanLiauIndex() {
+    return this.scores.getColemanLiauIndex();
+  }
+
+  public final double[] getFleschKincaidGradeLevel() {
+    return this.scores.getFleschKincaidGradeLevel();
+  }
+
+  public final double[] getFleschReadingEase() {
+    return this.scores.getFleschReadingEase();
+  }
+
+  public final double[] getGunningFogIndex() {
+    return this.scores.getGunningFogIndex();
+  }
+
+  public final double[] getLix() {
+    return this.scores.getLix();
+  }
+
+  public final double[] getRix() {
+    return this.scores.getRix();
+  }
+
+  public final double[] getSmog() {
+    return this.scores.getSmog();
+  }
+
+}
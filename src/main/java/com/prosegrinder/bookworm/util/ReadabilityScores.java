@@ -7,7 +7,11 @@ package com.prosegrinder.bookworm.util;
  * are considered experimental. The definition for Complex Word is
  * not entirely clear and difficult to implement.
  *
+ * <p>Every score is computed by the same formulas as ReadabilityBatch, which scores many texts
+ * at once from columns of counts.
+ *
  * @see <a href="https://en.wikipedia.org/wiki/Readability_test">Readability Test</a>
+ * @see ReadabilityBatch
  * @see Word#isComplexWord()
  * @see WordContainer#getComplexWordCount()
  *
@@ -159,14 +163,7 @@ public final class ReadabilityScores {
   public static final Double automatedReadabilityIndex(final Integer characterCount,
                                                         final Integer wordCount,
                                                         final Integer sentenceCount) {
-    Double score = 0.0;
-    if (wordCount > 0) {
-      Double averageCharactersPerWord = (double) characterCount / (double) wordCount;
-      Double averageWordsPerSentence = (double) wordCount / (double) sentenceCount;
-      score = (4.71 * averageCharactersPerWord)
-              + (0.5 * averageWordsPerSentence) - 21.43;
-    }
-    return score;
+    return ReadabilityBatch.automatedReadabilityIndex(characterCount, wordCount, sentenceCount);
   }
 
   /**
@@ -181,13 +178,7 @@ public final class ReadabilityScores {
   public static final Double fleschReadingEase(final Integer sentenceCount,
                                                 final Integer wordCount,
                                                 final Integer syllableCount) {
-    Double score = 0.0;
-    if (wordCount > 0) {
-      Double averageSentenceLength = (double) wordCount / (double) sentenceCount;
-      Double averageSyllablesPerWord = (double) syllableCount / (double) wordCount;
-      score = 206.835 - (1.015 * averageSentenceLength) - (84.6 * averageSyllablesPerWord);
-    }
-    return score;
+    return ReadabilityBatch.fleschReadingEase(sentenceCount, wordCount, syllableCount);
   }
 
   /**
@@ -202,13 +193,7 @@ public final class ReadabilityScores {
   public static final Double fleschKincaidGradeLevel(final Integer sentenceCount,
                                                 final Integer wordCount,
                                                 final Integer syllableCount) {
-    Double score = 0.0;
-    if (wordCount > 0) {
-      Double averageSentenceLength = (double) wordCount / (double) sentenceCount;
-      Double averageSyllablesPerWord = (double) syllableCount / (double) wordCount;
-      score = (0.39 * averageSentenceLength) + (11.8 * averageSyllablesPerWord) - 15.59;
-    }
-    return score;
+    return ReadabilityBatch.fleschKincaidGradeLevel(sentenceCount, wordCount, syllableCount);
   }
 
   /**
@@ -223,13 +208,7 @@ public final class ReadabilityScores {
   public static final Double gunningFogIndex(final Integer sentenceCount,
                                               final Integer wordCount,
                                               final Integer complexWordCount) {
-    Double score = 0.0;
-    if (wordCount > 0) {
-      Double averageSentenceLength = (double) wordCount / (double) sentenceCount;
-      Double percentageHardWords = (double) complexWordCount / (double) wordCount * 100;
-      score = 0.4 * (averageSentenceLength + percentageHardWords);
-    }
-    return score;
+    return ReadabilityBatch.gunningFogIndex(sentenceCount, wordCount, complexWordCount);
   }
 
   /**
@@ -241,12 +220,7 @@ public final class ReadabilityScores {
    *
    **/
   public static final Double smog(final Integer complexWordCount, final Integer sentenceCount) {
-    Double score = 0.0;
-    if (sentenceCount > 0) {
-      score = (1.0430 * Math.sqrt((double) complexWordCount
-          * (30 / (double) sentenceCount))) + 3.1291;
-    }
-    return score;
+    return ReadabilityBatch.smog(complexWordCount, sentenceCount);
   }
 
   /**
@@ -261,13 +235,7 @@ public final class ReadabilityScores {
   public static final Double colemanLiauIndex(final Integer characterCount,
                                               final Integer wordCount,
                                               final Integer sentenceCount) {
-    Double score = 0.0;
-    if (wordCount > 0) {
-      Double lettersPerWord = (double) characterCount / (double) wordCount * 100;
-      Double sentencesPerWord = (double) sentenceCount / (double) wordCount * 100;
-      score = (0.0588 * lettersPerWord) - (0.296 * sentencesPerWord) - 15.8;
-    }
-    return score;
+    return ReadabilityBatch.colemanLiauIndex(characterCount, wordCount, sentenceCount);
   }
 
   /**
@@ -281,12 +249,7 @@ public final class ReadabilityScores {
    **/
   public static final Double lix(final Integer wordCount,
       final Integer longWordCount, final Integer sentenceCount) {
-    Double score = 0.0;
-    if (wordCount > 0) {
-      score = (double) wordCount / (double) sentenceCount
-          + (100 * (double) longWordCount) / (double) wordCount;
-    }
-    return score;
+    return ReadabilityBatch.lix(wordCount, longWordCount, sentenceCount);
   }
 
   /**
@@ -305,10 +268,6 @@ public final class ReadabilityScores {
   @Deprecated
   public static final Double rix(final Integer longWordCount,
       final Integer sentenceCount) {
-    Double score = 0.0;
-    if (sentenceCount > 0) {
-      score = (double) longWordCount / (double) sentenceCount;
-    }
-    return score;
+    return ReadabilityBatch.rix(longWordCount, sentenceCount);
   }
 }
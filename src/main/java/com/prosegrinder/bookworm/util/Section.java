@@ -0,0 +1,74 @@
+package com.prosegrinder.bookworm.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A run of Paragraphs within a Chapter, such as a scene.
+ *
+ * <p>A Section begins at the start of its Chapter or at a scene break, and the scene break
+ * Paragraph is the first Paragraph of the Section it begins. Every Paragraph of a Prose
+ * belongs to exactly one Section, so Sections sum exactly to their Chapter.
+ *
+ * @see ProseOptions#getSceneBreakPattern()
+ */
+public final class Section extends AggregateContainer {
+
+  private final List<Paragraph> paragraphs;
+  private final Integer sentenceCount;
+  private final Integer paragraphCount;
+  private List<Word> words;
+
+  /**
+   * Returns a new Section from Paragraphs that have already been analyzed.
+   *
+   * <p>Sections should only be created by a Prose object, which finds their boundaries.
+   *
+   * @param text  the text of the Section, from the start of its first Paragraph to the end of
+   *     its last
+   * @param normalizedText  the normalized form of text, taken from the normalized Prose
+   * @param paragraphs  the Paragraphs of the Section, in order
+   * @param dictionary  dictionary used for word reference (cache)
+   */
+  Section(final CharSequence text, final CharSequence normalizedText,
+      final List<Paragraph> paragraphs, final Dictionary2 dictionary) {
+    this.setText(text, normalizedText);
+    this.setDictionary(dictionary);
+    this.paragraphs = Collections.unmodifiableList(new ArrayList<Paragraph>(paragraphs));
+    this.aggregateContainers(this.paragraphs);
+    this.sentenceCount = this.paragraphs.stream()
+        .mapToInt( paragraph -> paragraph.getSentenceCount())
+        .sum();
+    this.paragraphCount = this.paragraphs.size();
+  }
+
+  public final Integer getParagraphCount() {
+    return this.paragraphCount;
+  }
+
+  public final List<Paragraph> getParagraphs() {
+    return this.paragraphs;
+  }
+
+  public final Integer getSentenceCount() {
+    return this.sentenceCount;
+  }
+
+  /**
+   * Returns every Word found in the Section's Sentences, in order.
+   *
+   * @return an unmodifiable list of the Words found in the Section's Sentences.
+   */
+  public final List<Word> getWords() {
+    if (this.words == null) {
+      List<Word> words = new ArrayList<Word>(this.getWordCount());
+      this.getParagraphs().stream().forEach( paragraph -> {
+        words.addAll(paragraph.getWords());
+      });
+      this.words = Collections.unmodifiableList(words);
+    }
+    return this.words;
+  }
+
+}
@@ -1,5 +1,6 @@
 package com.prosegrinder.bookworm.util;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -31,10 +32,34 @@ public final class Sentence extends WordContainer {
    * @param text    a string of text representing a complete sentence
    * @param dictionary  dictionary used for word reference (cache)
    */
-  public Sentence(final String text, Dictionary2 dictionary) {
+  public Sentence(final CharSequence text, Dictionary2 dictionary) {
     super(text, dictionary);
   }
 
+  /**
+   * Same as the CharSequence version, kept so code compiled against this String signature
+   * still links.
+   *
+   * @param text    a string of text representing a complete sentence
+   * @param dictionary  dictionary used for word reference (cache)
+   */
+  public Sentence(final String text, final Dictionary2 dictionary) {
+    this((CharSequence) text, dictionary);
+  }
+
+  Sentence(final CharSequence text, final CharSequence normalizedText, final List<Word> words,
+      final Dictionary2 dictionary) {
+    super(text, normalizedText, words, dictionary);
+  }
+
+  /**
+   * Returns the pattern that defines a Sentence.
+   *
+   * <p>Paragraph does not search with this pattern. It finds Sentences with a scanner that
+   * matches exactly what this pattern matches, in a single pass over the text.
+   *
+   * @return the pattern that defines a Sentence
+   */
   public static final Pattern getPattern() {
     return Sentence.SENTENCE_PATTERN;
   }
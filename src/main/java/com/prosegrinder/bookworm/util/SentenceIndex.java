@@ -0,0 +1,109 @@
+package com.prosegrinder.bookworm.util;
+
+import java.util.List;
+
+/**
+ * Running totals of the counts behind ReadabilityScores, taken sentence by sentence.
+ *
+ * <p>Entry i of each array holds the total over the first i Sentences, so the total over any
+ * range of Sentences is the difference of two entries. Built in one pass over the Sentences,
+ * after which any range is scored in constant time.
+ */
+final class SentenceIndex {
+
+  private final int[] wordCounts;
+  private final int[] syllableCounts;
+  private final int[] wordCharacterCounts;
+  private final int[] complexWordCounts;
+  private final int[] longWordCounts;
+
+  SentenceIndex(final List<Sentence> sentences) {
+    final int size = sentences.size() + 1;
+    this.wordCounts = new int[size];
+    this.syllableCounts = new int[size];
+    this.wordCharacterCounts = new int[size];
+    this.complexWordCounts = new int[size];
+    this.longWordCounts = new int[size];
+    for (int i = 1; i < size; i++) {
+      final Sentence sentence = sentences.get(i - 1);
+      this.wordCounts[i] = this.wordCounts[i - 1] + sentence.getWordCount();
+      this.syllableCounts[i] = this.syllableCounts[i - 1] + sentence.getSyllableCount();
+      this.wordCharacterCounts[i] =
+          this.wordCharacterCounts[i - 1] + sentence.getWordCharacterCount();
+      this.complexWordCounts[i] =
+          this.complexWordCounts[i - 1] + sentence.getComplexWordCount();
+      this.longWordCounts[i] = this.longWordCounts[i - 1] + sentence.getLongWordCount();
+    }
+  }
+
+  /**
+   * Builds the running totals from the counts of each Sentence, as stored by ProseResults.
+   *
+   * @param wordCounts  count of words in each Sentence
+   * @param syllableCounts  count of syllables in each Sentence
+   * @param wordCharacterCounts  count of word characters in each Sentence
+   * @param complexWordCounts  count of complex words in each Sentence
+   * @param longWordCounts  count of long words in each Sentence
+   */
+  SentenceIndex(final int[] wordCounts, final int[] syllableCounts,
+      final int[] wordCharacterCounts, final int[] complexWordCounts,
+      final int[] longWordCounts) {
+    this.wordCounts = SentenceIndex.runningTotals(wordCounts);
+    this.syllableCounts = SentenceIndex.runningTotals(syllableCounts);
+    this.wordCharacterCounts = SentenceIndex.runningTotals(wordCharacterCounts);
+    this.complexWordCounts = SentenceIndex.runningTotals(complexWordCounts);
+    this.longWordCounts = SentenceIndex.runningTotals(longWordCounts);
+  }
+
+  private static int[] runningTotals(final int[] counts) {
+    final int[] totals = new int[counts.length + 1];
+    for (int i = 1; i < totals.length; i++) {
+      totals[i] = totals[i - 1] + counts[i - 1];
+    }
+    return totals;
+  }
+
+  int getSentenceCount() {
+    return this.wordCounts.length - 1;
+  }
+
+  int getWordCount(final int fromSentence, final int toSentence) {
+    return this.wordCounts[toSentence] - this.wordCounts[fromSentence];
+  }
+
+  int getSyllableCount(final int fromSentence, final int toSentence) {
+    return this.syllableCounts[toSentence] - this.syllableCounts[fromSentence];
+  }
+
+  int getWordCharacterCount(final int fromSentence, final int toSentence) {
+    return this.wordCharacterCounts[toSentence] - this.wordCharacterCounts[fromSentence];
+  }
+
+  int getComplexWordCount(final int fromSentence, final int toSentence) {
+    return this.complexWordCounts[toSentence] - this.complexWordCounts[fromSentence];
+  }
+
+  int getLongWordCount(final int fromSentence, final int toSentence) {
+    return this.longWordCounts[toSentence] - this.longWordCounts[fromSentence];
+  }
+
+  /**
+   * Returns ReadabilityScores for a range of Sentences.
+   *
+   * @param fromSentence  index of the first Sentence of the range, inclusive
+   * @param toSentence  index of the last Sentence of the range, exclusive
+   * @return ReadabilityScores for the range
+   */
+  ReadabilityScores getReadabilityScores(final int fromSentence, final int toSentence) {
+    if (fromSentence < 0 || toSentence > this.getSentenceCount() || fromSentence > toSentence) {
+      throw new IndexOutOfBoundsException("fromSentence " + fromSentence + ", toSentence "
+          + toSentence + ", sentences " + this.getSentenceCount());
+    }
+    return new ReadabilityScores(this.getWordCharacterCount(fromSentence, toSentence),
+        this.getComplexWordCount(fromSentence, toSentence),
+        this.getLongWordCount(fromSentence, toSentence), toSentence - fromSentence,
+        this.getSyllableCount(fromSentence, toSentence),
+        this.getWordCount(fromSentence, toSentence));
+  }
+
+}
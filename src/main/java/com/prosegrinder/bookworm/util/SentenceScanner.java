@@ -0,0 +1,137 @@
+package com.prosegrinder.bookworm.util;
+
+import java.util.Arrays;
+
+/**
+ * Finds Sentences in a text in a single forward pass, without regular expressions.
+ *
+ * <p>Finds exactly what Sentence's pattern finds. A Sentence starts at a character that is
+ * neither ending punctuation (. ! ? …) nor whitespace, and ends at ending punctuation, along
+ * with an optional closing quotation mark or parenthesis (' " or )), that is followed by
+ * whitespace or the end of a line. Punctuation followed by anything else is part of the
+ * Sentence.
+ *
+ * <p>Each character is classified through a lookup table, and each piece of punctuation is
+ * settled by looking at no more than the two characters after it, so nothing is ever scanned
+ * twice. Punctuation and a closing mark followed by a line terminator that is not whitespace
+ * (such as a next line character) may either end a Sentence or be part of one; as the pattern
+ * does, the Sentence runs on to the next piece of punctuation that must end it, or else ends
+ * at the last one that may.
+ *
+ * @see Sentence#getPattern()
+ */
+final class SentenceScanner {
+
+  /** Ending punctuation. **/
+  private static final byte PUNCTUATION = 1;
+  /** Closing quotation marks and parentheses. **/
+  private static final byte CLOSING = 2;
+  /** Whitespace, as a regular expression's \s. **/
+  private static final byte WHITESPACE = 4;
+  /** Line terminators, as a regular expression's $ sees them. **/
+  private static final byte LINE_END = 8;
+
+  private static final byte[] ASCII_CLASSES = new byte[128];
+
+  static {
+    for (char c : ".!?".toCharArray()) {
+      SentenceScanner.ASCII_CLASSES[c] = SentenceScanner.PUNCTUATION;
+    }
+    for (char c : "'\")".toCharArray()) {
+      SentenceScanner.ASCII_CLASSES[c] = SentenceScanner.CLOSING;
+    }
+    for (char c : " \t\u000B\f".toCharArray()) {
+      SentenceScanner.ASCII_CLASSES[c] = SentenceScanner.WHITESPACE;
+    }
+    SentenceScanner.ASCII_CLASSES['\n'] = SentenceScanner.WHITESPACE | SentenceScanner.LINE_END;
+    SentenceScanner.ASCII_CLASSES['\r'] = SentenceScanner.WHITESPACE | SentenceScanner.LINE_END;
+  }
+
+  private SentenceScanner() {
+  }
+
+  /**
+   * Finds the start and end offset of every Sentence in the text.
+   *
+   * @param text  text to search, usually a single Paragraph
+   * @return start and end offset pairs of every Sentence
+   */
+  static int[] findSentenceSpans(final CharSequence text) {
+    final int length = text.length();
+    int[] spans = new int[16];
+    int count = 0;
+    int position = 0;
+    while (position < length) {
+      int start = position;
+      while (start < length && (SentenceScanner.classOf(text.charAt(start))
+          & (SentenceScanner.PUNCTUATION | SentenceScanner.WHITESPACE)) != 0) {
+        start++;
+      }
+      if (start == length) {
+        break;
+      }
+      int end = -1;
+      int lastOptionalEnd = -1;
+      for (int i = start + 1; i < length && end < 0; i++) {
+        if (SentenceScanner.classOf(text.charAt(i)) != SentenceScanner.PUNCTUATION) {
+          continue;
+        }
+        final int next = SentenceScanner.classAt(text, i + 1);
+        if ((next & (SentenceScanner.WHITESPACE | SentenceScanner.LINE_END)) != 0) {
+          end = i + 1;
+        } else if (next == SentenceScanner.CLOSING) {
+          final int afterNext = SentenceScanner.classAt(text, i + 2);
+          if ((afterNext & SentenceScanner.WHITESPACE) != 0) {
+            end = i + 2;
+          } else if (afterNext == SentenceScanner.LINE_END) {
+            lastOptionalEnd = i + 2;
+          }
+        }
+      }
+      if (end < 0) {
+        // Nothing after this point can end a Sentence, so there are no more to find.
+        if (lastOptionalEnd < 0) {
+          break;
+        }
+        end = lastOptionalEnd;
+      }
+      if (count == spans.length) {
+        spans = Arrays.copyOf(spans, spans.length * 2);
+      }
+      spans[count++] = start;
+      spans[count++] = end;
+      position = end;
+    }
+    return Arrays.copyOf(spans, count);
+  }
+
+  /**
+   * Returns the class of the character at an offset, treating the end of the text as the end
+   * of a line.
+   *
+   * @param text  text being searched
+   * @param index  offset into text
+   * @return the class of the character at index
+   */
+  private static int classAt(final CharSequence text, final int index) {
+    return (index < text.length())
+        ? SentenceScanner.classOf(text.charAt(index)) : SentenceScanner.LINE_END;
+  }
+
+  private static int classOf(final char c) {
+    if (c < 128) {
+      return SentenceScanner.ASCII_CLASSES[c];
+    }
+    switch (c) {
+      case '…':
+        return SentenceScanner.PUNCTUATION;
+      case '\u0085':
+      case '\u2028':
+      case '\u2029':
+        return SentenceScanner.LINE_END;
+      default:
+        return 0;
+    }
+  }
+
+}
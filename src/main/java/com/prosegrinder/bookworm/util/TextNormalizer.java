@@ -0,0 +1,153 @@
+package com.prosegrinder.bookworm.util;
+
+import java.nio.CharBuffer;
+
+/**
+ * Normalizes text once for an entire document, so that containers and Words can take their
+ * normalized text from it rather than normalizing their own text again.
+ *
+ * <p>Left and right double quotation marks (“”) are folded to neutral quotation marks ("), the
+ * right single quotation mark (’) and the modifier letter apostrophe (ʼ) are folded to an
+ * apostrophe ('), and everything is converted to lower case. Case is folded character by
+ * character, independently of the default locale, with a fast path for ASCII.
+ *
+ * <p>Every character folds to exactly one character, so the normalized text is the same length
+ * as the original and an offset into one is the same offset into the other. No offset map
+ * needs to be kept: a span of the original text is normalized by taking the same span of the
+ * normalized text.
+ */
+final class TextNormalizer {
+
+  private TextNormalizer() {
+  }
+
+  /**
+   * Returns the normalized form of a text.
+   *
+   * @param text  text to normalize
+   * @return the normalized text, the same length as text
+   */
+  static CharSequence normalize(final CharSequence text) {
+    final char[] normalized = new char[text.length()];
+    TextNormalizer.normalize(text, 0, text.length(), normalized, 0);
+    return CharBuffer.wrap(normalized);
+  }
+
+  /**
+   * Returns the normalized form of a revised text, reusing the normalized form of the text it
+   * revises. Only the changed characters are normalized; the rest are copied.
+   *
+   * @param previous  the normalized form of the text being revised
+   * @param text  the revised text
+   * @param start  offset of the first changed character, the same in both texts
+   * @param previousEnd  offset just past the last changed character of the previous text
+   * @param end  offset just past the last changed character of the revised text
+   * @return the normalized revised text, the same length as text
+   */
+  static CharSequence revise(final CharSequence previous, final CharSequence text,
+      final int start, final int previousEnd, final int end) {
+    final char[] normalized = new char[text.length()];
+    TextNormalizer.copy(previous, 0, start, normalized, 0);
+    TextNormalizer.normalize(text, start, end, normalized, start);
+    TextNormalizer.copy(previous, previousEnd, previous.length(), normalized, end);
+    return CharBuffer.wrap(normalized);
+  }
+
+  /**
+   * Returns a copy of a text with left and right double quotation marks folded to neutral
+   * quotation marks, and nothing else changed.
+   *
+   * @param text  source text
+   * @return a copy of text using neutral quotation marks in place of smart quotation marks
+   */
+  static String foldQuotes(final CharSequence text) {
+    final char[] folded = new char[text.length()];
+    for (int i = 0; i < folded.length; i++) {
+      final char c = text.charAt(i);
+      folded[i] = (c == '“' || c == '”') ? '"' : c;
+    }
+    return new String(folded);
+  }
+
+  /**
+   * Returns a word with every character that stands in for an apostrophe folded to an
+   * apostrophe ('), the way cmudict and Word's point of view sets spell contractions.
+   *
+   * <p>Along with the marks folded by {@link #normalize(CharSequence)}, this folds the left
+   * single quotation mark (as in ‘tis), the prime, the grave and acute accents and the
+   * fullwidth apostrophe, which only stand in for an apostrophe within a single word.
+   *
+   * @param word  a single word
+   * @return word with apostrophes folded, or word itself if it has nothing to fold
+   */
+  static String foldApostrophes(final String word) {
+    for (int i = 0; i < word.length(); i++) {
+      if (TextNormalizer.isApostrophe(word.charAt(i))) {
+        final char[] folded = word.toCharArray();
+        for (int j = i; j < folded.length; j++) {
+          if (TextNormalizer.isApostrophe(folded[j])) {
+            folded[j] = '\'';
+          }
+        }
+        return new String(folded);
+      }
+    }
+    return word;
+  }
+
+  private static boolean isApostrophe(final char c) {
+    switch (c) {
+      case '’':
+      case '‘':
+      case 'ʼ':
+      case '′':
+      case '`':
+      case '´':
+      case '＇':
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static void normalize(final CharSequence text, final int start, final int end,
+      final char[] normalized, final int offset) {
+    for (int i = start; i < end; i++) {
+      final char c = text.charAt(i);
+      if (c < 128) {
+        normalized[offset + i - start] = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+      } else if (Character.isHighSurrogate(c) && i + 1 < end
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        final int codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+        final int lowerCase = Character.toLowerCase(codePoint);
+        final int folded = (Character.charCount(lowerCase) == 2) ? lowerCase : codePoint;
+        normalized[offset + i - start] = Character.highSurrogate(folded);
+        normalized[offset + i + 1 - start] = Character.lowSurrogate(folded);
+        i++;
+      } else {
+        normalized[offset + i - start] = TextNormalizer.fold(c);
+      }
+    }
+  }
+
+  private static char fold(final char c) {
+    switch (c) {
+      case '“':
+      case '”':
+        return '"';
+      case '’':
+      case 'ʼ':
+        return '\'';
+      default:
+        return Character.toLowerCase(c);
+    }
+  }
+
+  private static void copy(final CharSequence source, final int start, final int end,
+      final char[] destination, final int offset) {
+    for (int i = start; i < end; i++) {
+      destination[offset + i - start] = source.charAt(i);
+    }
+  }
+
+}
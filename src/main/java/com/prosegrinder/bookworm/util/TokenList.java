@@ -0,0 +1,94 @@
+package com.prosegrinder.bookworm.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * The Words found in a piece of text, in order, along with the offset of each Word in that
+ * text.
+ *
+ * <p>Each Word is matched and resolved through the Dictionary exactly once. Containers built
+ * over part of the text take their Words from here instead of matching and resolving them
+ * again.
+ */
+final class TokenList {
+
+  private final List<Word> words = new ArrayList<Word>();
+  private int[] offsets = new int[16];
+
+  /**
+   * Matches and resolves every Word in a piece of text that has already been normalized.
+   *
+   * <p>Normalizing never changes where a Word starts or ends, so the offsets are also offsets
+   * into the text before it was normalized.
+   *
+   * @param normalizedText  normalized text to tokenize
+   * @param dictionary  dictionary used for word reference (cache)
+   * @return the Words found in text along with their offsets
+   * @see TextNormalizer
+   */
+  static TokenList tokenize(final CharSequence normalizedText, final Dictionary2 dictionary) {
+    TokenList tokens = new TokenList();
+    Matcher wordMatcher = Word.getPattern().matcher(normalizedText);
+    while (wordMatcher.find()) {
+      tokens.add(dictionary.getWord(wordMatcher.group()), wordMatcher.start());
+    }
+    return tokens;
+  }
+
+  private void add(final Word word, final int offset) {
+    if (this.words.size() == this.offsets.length) {
+      this.offsets = Arrays.copyOf(this.offsets, this.offsets.length * 2);
+    }
+    this.offsets[this.words.size()] = offset;
+    this.words.add(word);
+  }
+
+  int size() {
+    return this.words.size();
+  }
+
+  Word getWord(final int index) {
+    return this.words.get(index);
+  }
+
+  int getOffset(final int index) {
+    return this.offsets[index];
+  }
+
+  /**
+   * Returns the index of the first Word starting at or after an offset.
+   *
+   * @param offset  offset into the tokenized text
+   * @return the index of the first Word at or after offset, or size() if there is none
+   */
+  int indexOf(final int offset) {
+    int index = Arrays.binarySearch(this.offsets, 0, this.words.size(), offset);
+    return (index < 0) ? -(index + 1) : index;
+  }
+
+  /**
+   * Returns every Word in the text.
+   *
+   * @return an unmodifiable view of the Words found in the text
+   */
+  List<Word> getWords() {
+    return Collections.unmodifiableList(this.words);
+  }
+
+  /**
+   * Returns the Words starting within a range of offsets.
+   *
+   * @param start  first offset of the range, inclusive
+   * @param end  last offset of the range, exclusive
+   * @return an unmodifiable view of the Words found in the range
+   */
+  List<Word> getWords(final int start, final int end) {
+    return Collections.unmodifiableList(
+        this.words.subList(this.indexOf(start), this.indexOf(end)));
+  }
+
+}
@@ -1,5 +1,7 @@
 package com.prosegrinder.bookworm.util;
 
+import com.prosegrinder.bookworm.enums.PovType;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,10 +47,33 @@ public final class Word {
       Arrays.asList("he", "he's", "he'll", "he'd", "him", "his", "himself", "she", "she's",
           "she'll", "she'd", "her", "hers", "herself", "it", "it's", "it'll", "it'd", "itself",
           "they", "they're", "they'll", "they'd", "they've", "them", "theirs", "themselves"));
+  /**
+   * Every point of view word with its person, built once so a Word finds its point of view
+   * with a single lookup.
+   **/
+  static final Map<String, PovType> POV_INDEX = Word.indexPov();
+
+  /** Common words that carry little meaning of their own, such as articles and pronouns. **/
+  public static final Set<String> STOP_WORDS = new HashSet<String>(Arrays.asList("a", "about",
+      "above", "after", "again", "against", "all", "am", "an", "and", "any", "are", "as", "at",
+      "be", "because", "been", "before", "being", "below", "between", "both", "but", "by",
+      "can", "could", "did", "do", "does", "doing", "don't", "down", "during", "each", "few",
+      "for", "from", "further", "had", "has", "have", "having", "he", "he'd", "he'll", "he's",
+      "her", "here", "hers", "herself", "him", "himself", "his", "how", "i", "i'd", "i'll",
+      "i'm", "i've", "if", "in", "into", "is", "it", "it's", "its", "itself", "just", "me",
+      "more", "most", "my", "myself", "no", "nor", "not", "now", "of", "off", "on", "once",
+      "only", "or", "other", "our", "ours", "ourselves", "out", "over", "own", "same", "she",
+      "she'd", "she'll", "she's", "should", "so", "some", "such", "than", "that", "that's",
+      "the", "their", "theirs", "them", "themselves", "then", "there", "there's", "these",
+      "they", "they'd", "they'll", "they're", "they've", "this", "those", "through", "to",
+      "too", "under", "until", "up", "very", "was", "we", "we'd", "we'll", "we're", "we've",
+      "were", "what", "when", "where", "which", "while", "who", "whom", "why", "will", "with",
+      "would", "you", "you'd", "you'll", "you're", "you've", "your", "yours", "yourself",
+      "yourselves"));
   
   /** Pattern used to slice a string of text into words. **/
   private static final Pattern WORD_PATTERN = Pattern.compile(
-      "[\\w’']+"
+      "[\\w’'ʼ]+"
   );
 
   /** Private member variables. **/
@@ -56,11 +81,9 @@ public final class Word {
   private final String normalizedWord;
   private final Boolean isComplexWord;
   private final Boolean isLongWord;
-  private final Boolean isPovWord;
-  private final Boolean isFirstPersonWord;
-  private final Boolean isSecondPersonWord;
-  private final Boolean isThirdPersonWord;
+  private final PovType povType;
   private final Boolean isNumeric;
+  private final Boolean isStopWord;
   private final Integer wordCharacterCount;
   private final Integer syllableCount;
   private final Boolean isDictionaryWord;
@@ -85,7 +108,9 @@ public final class Word {
     this.syllableCount = syllableCount;
     this.isDictionaryWord = inDictionary;
     this.isNumeric = isNumeric;
-    this.normalizedWord = WordContainer.normalizeText(this.initialWord);
+    // Fold every kind of apostrophe so contractions match the point of view sets.
+    this.normalizedWord =
+        TextNormalizer.foldApostrophes(WordContainer.normalizeText(this.initialWord));
     this.wordCharacterCount = this.getNormalizedText().length();
     if (this.syllableCount >= MIN_SYLLABLES_COMPLEX_WORD) {
       this.isComplexWord = true;
@@ -94,10 +119,16 @@ public final class Word {
     }
     this.isLongWord = (this.getWordCharacterCount() >= MIN_CHARS_LONG_WORD) ? true : false;
     /** Figure out if the word indicates a point of view. **/
-    this.isFirstPersonWord = Word.POV_FIRST.contains(this.getNormalizedText());
-    this.isSecondPersonWord = Word.POV_SECOND.contains(this.getNormalizedText());
-    this.isThirdPersonWord = Word.POV_THIRD.contains(this.getNormalizedText());
-    this.isPovWord = (this.isFirstPersonWord || this.isSecondPersonWord || this.isThirdPersonWord);
+    this.povType = Word.POV_INDEX.getOrDefault(this.getNormalizedText(), PovType.UNKNOWN);
+    this.isStopWord = Word.STOP_WORDS.contains(this.getNormalizedText());
+  }
+
+  private static Map<String, PovType> indexPov() {
+    Map<String, PovType> povIndex = new HashMap<String, PovType>();
+    Word.POV_FIRST.forEach( word -> povIndex.put(word, PovType.FIRST));
+    Word.POV_SECOND.forEach( word -> povIndex.put(word, PovType.SECOND));
+    Word.POV_THIRD.forEach( word -> povIndex.put(word, PovType.THIRD));
+    return Collections.unmodifiableMap(povIndex);
   }
 
   /**
@@ -176,19 +207,37 @@ public final class Word {
   }
 
   public final Boolean isFirstPersonWord() {
-    return this.isFirstPersonWord;
+    return this.povType == PovType.FIRST;
   }
 
   public final Boolean isSecondPersonWord() {
-    return this.isSecondPersonWord;
+    return this.povType == PovType.SECOND;
   }
 
   public final Boolean isThirdPersonWord() {
-    return this.isThirdPersonWord;
+    return this.povType == PovType.THIRD;
   }
 
   public final Boolean isPovWord() {
-    return this.isPovWord;
+    return this.povType != PovType.UNKNOWN;
+  }
+
+  /**
+   * Returns the point of view the Word indicates.
+   *
+   * @return FIRST, SECOND or THIRD for a point of view word, or UNKNOWN for any other Word
+   */
+  public final PovType getPovType() {
+    return this.povType;
+  }
+
+  /**
+   * Returns whether the Word is a stop word.
+   *
+   * @return true if the Word is in STOP_WORDS
+   */
+  public final Boolean isStopWord() {
+    return this.isStopWord;
   }
 
   public final Integer getSyllableCount() {
@@ -1,10 +1,9 @@
 package com.prosegrinder.bookworm.util;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.regex.Matcher;
 
 /**
@@ -20,51 +19,85 @@ public abstract class WordContainer extends Container {
    * Constructs a new WordContainer, ensuring copies of the text in initial and normalized
    * form are available for subsequent processing.
    *
-   * @param text  String representing the fragment.
+   * @param text  CharSequence representing the fragment.
    * @param dictionary Dictionary used for processing prose.
    *
    */
-  public WordContainer(final String text, final Dictionary2 dictionary) {
+  public WordContainer(final CharSequence text, final Dictionary2 dictionary) {
     this.setText(text);
     this.setDictionary(dictionary);
     Matcher wordMatcher = Word.getPattern().matcher(this.getNormalizedText());
     while (wordMatcher.find()) {
       this.words.add(this.getDictionary().getWord(wordMatcher.group()));
     }
-    this.setWordCharacterCount(this.words.stream()
-        .mapToInt( word -> word.getWordCharacterCount())
-        .sum());
-    this.setSyllableCount(this.words.stream()
-        .mapToInt( word -> word.getSyllableCount())
-        .sum());
-    this.setWordCount(words.size());
-    this.setComplexWordCount(this.words.stream()
-        .mapToInt( word -> word.getComplexWordCount())
-        .sum());
-    this.setLongWordCount(this.words.stream()
-        .mapToInt( word -> word.getLongWordCount())
-        .sum());
-    this.setPovWordCount(this.words.stream()
-        .mapToInt( word -> word.getPovWordCount())
-        .sum());
-    this.setFirstPersonWordCount(this.words.stream()
-        .mapToInt( word -> word.getFirstPersonWordCount())
-        .sum());
-    this.setSecondPersonWordCount(this.words.stream()
-        .mapToInt( word -> word.getSecondPersonWordCount())
-        .sum());
-    this.setThirdPersonWordCount(this.words.stream()
-        .mapToInt( word -> word.getThirdPersonWordCount())
-        .sum());
-    Set<Word> uniqueWords = new HashSet<Word>(this.words);
-    uniqueWords.stream().forEach(word -> {
-      this.setWordFrequency(word, Collections.frequency(this.words, word));
-    });   
+    this.countWords();
+  }
+
+  /**
+   * Same as the CharSequence version, kept so code compiled against this String signature
+   * still links.
+   *
+   * @param text    a string of text
+   * @param dictionary  dictionary used for word reference (cache)
+   */
+  public WordContainer(final String text, final Dictionary2 dictionary) {
+    this((CharSequence) text, dictionary);
+  }
+
+  /**
+   * Constructs a new WordContainer from Words that have already been matched and resolved
+   * from the text, such as those found by a Paragraph or Prose.
+   *
+   * @param text  CharSequence representing the fragment.
+   * @param normalizedText  the normalized form of text, taken from a larger normalized text.
+   * @param words  every Word found in text, in order.
+   * @param dictionary Dictionary used for processing prose.
+   *
+   */
+  WordContainer(final CharSequence text, final CharSequence normalizedText,
+      final List<Word> words, final Dictionary2 dictionary) {
+    this.setText(text, normalizedText);
+    this.setDictionary(dictionary);
+    this.words.addAll(words);
+    this.countWords();
+  }
+
+  private void countWords() {
+    int wordCharacterCount = 0;
+    int syllableCount = 0;
+    int complexWordCount = 0;
+    int longWordCount = 0;
+    int povWordCount = 0;
+    int firstPersonWordCount = 0;
+    int secondPersonWordCount = 0;
+    int thirdPersonWordCount = 0;
+    Map<Word, Integer> wordFrequency = new HashMap<Word, Integer>();
+    for (Word word : this.words) {
+      wordCharacterCount += word.getWordCharacterCount();
+      syllableCount += word.getSyllableCount();
+      complexWordCount += word.getComplexWordCount();
+      longWordCount += word.getLongWordCount();
+      povWordCount += word.getPovWordCount();
+      firstPersonWordCount += word.getFirstPersonWordCount();
+      secondPersonWordCount += word.getSecondPersonWordCount();
+      thirdPersonWordCount += word.getThirdPersonWordCount();
+      wordFrequency.merge(word, 1, Integer::sum);
+    }
+    this.setWordCharacterCount(wordCharacterCount);
+    this.setSyllableCount(syllableCount);
+    this.setWordCount(this.words.size());
+    this.setComplexWordCount(complexWordCount);
+    this.setLongWordCount(longWordCount);
+    this.setPovWordCount(povWordCount);
+    this.setFirstPersonWordCount(firstPersonWordCount);
+    this.setSecondPersonWordCount(secondPersonWordCount);
+    this.setThirdPersonWordCount(thirdPersonWordCount);
+    this.setWordFrequencyMap(wordFrequency);
   }
 
   // Maybe move this to Dictionary2?
   @Deprecated
-  public static final List<Word> getWords(final String text, Dictionary2 dictionary) {
+  public static final List<Word> getWords(final CharSequence text, Dictionary2 dictionary) {
     Matcher wordMatcher = Word.getPattern().matcher(WordContainer.normalizeText(text));
     List<Word> words = new ArrayList<Word>();
     while (wordMatcher.find()) {
@@ -73,6 +106,11 @@ public abstract class WordContainer extends Container {
     return words;
   }
 
+  @Deprecated
+  public static final List<Word> getWords(final String text, Dictionary2 dictionary) {
+    return WordContainer.getWords((CharSequence) text, dictionary);
+  }
+
   /**
    * Returns a list of all Words found in the WordContainer.
    *
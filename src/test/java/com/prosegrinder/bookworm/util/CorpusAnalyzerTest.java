@@ -0,0 +1,100 @@
+package com.prosegrinder.bookworm.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.prosegrinder.bookworm.enums.PovType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CorpusAnalyzerTest {
+
+  private static final int WORD_COUNT = 1528;
+  private static final int SENTENCE_COUNT = 90;
+
+  private Path prosePath;
+
+  @Before
+  public void findProse() throws URISyntaxException {
+    this.prosePath = TestTexts.getPath("shunn/shortstory.txt");
+  }
+
+  @Test
+  public void testAnalyze() throws InterruptedException {
+    // A budget smaller than a single document still lets each document through on its own.
+    CorpusAnalyzer analyzer = new CorpusAnalyzer(Dictionary2.getDefaultDictionary(), 2,
+        1024L, StandardCharsets.UTF_8);
+    List<Path> sources = Arrays.asList(this.prosePath,
+        this.prosePath.resolveSibling("missing.txt"), this.prosePath);
+    List<DocumentAnalysis> results = new ArrayList<DocumentAnalysis>();
+    CorpusSummary summary = analyzer.analyze(sources.iterator(), results::add);
+
+    assertEquals("Document Count: ", 2, summary.getDocumentCount().intValue());
+    assertEquals("Failed Document Count: ", 1, summary.getFailedDocumentCount().intValue());
+    assertEquals("Corpus Word Count: ", 2 * CorpusAnalyzerTest.WORD_COUNT,
+        summary.getWordCount().intValue());
+    assertTrue("Words Per Second: ", summary.getWordsPerSecond() > 0);
+    assertEquals("Results: ", 2, results.size());
+    for (DocumentAnalysis result : results) {
+      assertEquals("Word Count: ", CorpusAnalyzerTest.WORD_COUNT,
+          result.getWordCount().intValue());
+      assertEquals("Sentence Count: ", CorpusAnalyzerTest.SENTENCE_COUNT,
+          result.getReadabilityScores().getSentenceCount().intValue());
+      assertEquals("PoV: ", PovType.FIRST, result.getPov());
+    }
+  }
+
+  @Test
+  public void testVocabularySketch() throws IOException, URISyntaxException,
+      InterruptedException {
+    CorpusAnalyzer analyzer = new CorpusAnalyzer(Dictionary2.getDefaultDictionary(), 2,
+        1024L * 1024, StandardCharsets.UTF_8);
+    VocabularySketch sketch = VocabularySketch.getDefaultVocabularySketch();
+    analyzer.analyze(Arrays.asList(this.prosePath, this.prosePath).iterator(),
+        ( analysis -> { }), sketch);
+    Prose prose = new Prose(TestTexts.read("shunn/shortstory.txt"),
+        Dictionary2.getDefaultDictionary());
+
+    int uniqueWords = prose.getUniqueWordCount();
+    assertEquals("Word Count: ", 2 * CorpusAnalyzerTest.WORD_COUNT,
+        sketch.getWordCount().intValue());
+    assertEquals("Unique Word Count: ", uniqueWords, sketch.getUniqueWordCount(),
+        uniqueWords * 0.05);
+    // Far fewer words than counters, so the estimates are exact.
+    prose.getWordFrequency().forEach( (word, frequency) -> {
+      assertEquals("Word Frequency: ", 2 * frequency,
+          sketch.getWordFrequency(word.getNormalizedText()).intValue());
+    });
+
+    // Shards added together sketch the same as the entire corpus.
+    VocabularySketch shard = VocabularySketch.getDefaultVocabularySketch();
+    shard.add(prose);
+    VocabularySketch shards = VocabularySketch.getDefaultVocabularySketch();
+    shards.add(shard);
+    shards.add(shard);
+    assertEquals("Shards Unique Word Count: ", sketch.getUniqueWordCount(),
+        shards.getUniqueWordCount());
+    assertEquals("Shards Word Frequency: ", sketch.getWordFrequency("the"),
+        shards.getWordFrequency("the"));
+  }
+
+  @Test(expected = StackOverflowError.class)
+  public void testErrorRethrown() throws InterruptedException {
+    CorpusAnalyzer analyzer = new CorpusAnalyzer(Dictionary2.getDefaultDictionary(), 2,
+        1024L * 1024, StandardCharsets.UTF_8);
+    analyzer.analyze(Arrays.asList(this.prosePath, this.prosePath).iterator(),
+        ( analysis -> {
+          throw new StackOverflowError();
+        }));
+  }
+
+}
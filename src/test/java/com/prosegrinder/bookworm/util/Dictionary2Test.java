@@ -96,6 +96,20 @@ public class Dictionary2Test {
     assertEquals("1,904:", number, dictionary.getWord("1,904"));
   }
 
+  @Test
+  public final void testApostropheFolding() {
+    Dictionary2 dictionary = Dictionary2.getDefaultDictionary();
+    assertTrue("don’t: ", dictionary.inCmudict("don’t"));
+    assertTrue("Iʼm: ", dictionary.inCmudict("iʼm"));
+    assertEquals("don’t: ", dictionary.getWord("don't"), dictionary.getWord("don’t"));
+    assertTrue("don’t: ", dictionary.getWord("don’t").isDictionaryWord());
+    assertFalse("don’t: ", dictionary.inNonWordCache("don’t"));
+    assertTrue("i’m: ", dictionary.getWord("i’m").isFirstPersonWord());
+    assertTrue("you‘re: ", dictionary.getWord("you‘re").isSecondPersonWord());
+    assertEquals("don’t: ", dictionary.getSyllableCount("don't"),
+        dictionary.getSyllableCount("don’t"));
+  }
+
   @Test
   public final void testInCmudict() {
     Dictionary2 dictionary = Dictionary2.getDefaultDictionary();
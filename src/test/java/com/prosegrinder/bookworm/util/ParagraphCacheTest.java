@@ -0,0 +1,70 @@
+package com.prosegrinder.bookworm.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+public class ParagraphCacheTest {
+
+  private static String proseText;
+  private static String copyrightText;
+
+  @BeforeClass
+  public static void loadProse() throws IOException, URISyntaxException {
+    ParagraphCacheTest.proseText = TestTexts.read("shunn/shortstory.txt");
+    ParagraphCacheTest.copyrightText = TestTexts.read("shunn/copyright.txt");
+  }
+
+  @Test
+  public void testRepeatedParagraphs() {
+    ParagraphCache cache = new ParagraphCache(1024L * 1024);
+    ProseOptions options = ProseOptions.getDefaultProseOptions().withParagraphCache(cache);
+    String text = ParagraphCacheTest.copyrightText + "\n#\n" + ParagraphCacheTest.copyrightText;
+    Prose prose = new Prose(text, Dictionary2.getDefaultDictionary(), options);
+    Prose uncached = new Prose(text, Dictionary2.getDefaultDictionary());
+    assertEquals("Word Count: ", uncached.getWordCount(), prose.getWordCount());
+    assertEquals("Sentence Count: ", uncached.getSentenceCount(), prose.getSentenceCount());
+    assertEquals("Word Frequency: ", uncached.getWordFrequency(), prose.getWordFrequency());
+    // Paragraphs are analyzed in parallel, so a repeat may wait on the first to be analyzed,
+    // which counts as a miss, but is still only analyzed once.
+    int paragraphs = prose.getParagraphCount();
+    int unique = (paragraphs - 1) / 2 + 1;
+    assertEquals("Paragraphs: ", unique, cache.getSize().intValue());
+    assertEquals("Requests: ", paragraphs, cache.getStats().requestCount());
+    assertSame("Reused: ", prose.getParagraphs().get(0),
+        prose.getParagraphs().get(paragraphs - unique + 1));
+  }
+
+  @Test
+  public void testAcrossDocuments() {
+    ParagraphCache cache = new ParagraphCache(1024L * 1024);
+    ProseOptions options = ProseOptions.getDefaultProseOptions().withParagraphCache(cache);
+    Prose first = new Prose(ParagraphCacheTest.proseText, Dictionary2.getDefaultDictionary(),
+        options);
+    long misses = cache.getStats().missCount();
+    Prose second = new Prose(ParagraphCacheTest.proseText + "\nThe End.",
+        Dictionary2.getDefaultDictionary(), options);
+    assertEquals("Misses: ", misses + 1, cache.getStats().missCount());
+    assertSame("Reused: ", first.getParagraphs().get(3), second.getParagraphs().get(3));
+    assertEquals("Word Count: ",
+        new Prose(ParagraphCacheTest.proseText, Dictionary2.getDefaultDictionary())
+            .getWordCount(),
+        first.getWordCount());
+  }
+
+  @Test
+  public void testDefaultParagraphCache() {
+    ParagraphCache cache = ParagraphCache.getDefaultParagraphCache();
+    ProseOptions options = ProseOptions.getDefaultProseOptions().withParagraphCache(cache);
+    Prose prose = new Prose(ParagraphCacheTest.copyrightText, Dictionary2.getDefaultDictionary(),
+        options);
+    assertEquals("Paragraphs: ", prose.getParagraphCount().longValue(),
+        cache.getSize().longValue());
+  }
+
+}
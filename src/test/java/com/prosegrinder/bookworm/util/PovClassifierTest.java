@@ -0,0 +1,70 @@
+package com.prosegrinder.bookworm.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.prosegrinder.bookworm.enums.PovType;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+public class PovClassifierTest {
+
+  private static String proseText;
+
+  @BeforeClass
+  public static void loadProse() throws IOException, URISyntaxException {
+    PovClassifierTest.proseText = TestTexts.read("shunn/shortstory.txt");
+  }
+
+  @Test
+  public void testFirstPersonStopsEarly() {
+    PovClassification pov =
+        PovClassifier.getDefaultPovClassifier().classify(PovClassifierTest.proseText);
+    Prose prose = new Prose(PovClassifierTest.proseText, Dictionary2.getDefaultDictionary());
+    assertEquals("PoV: ", prose.getPov(), pov.getPov());
+    assertEquals("Confidence: ", 1.0, pov.getConfidence(), 0.0);
+    assertTrue("Characters Read: ",
+        pov.getCharactersRead() < PovClassifierTest.proseText.length());
+  }
+
+  @Test
+  public void testSameAsProse() {
+    PovClassifier classifier = new PovClassifier(1.0);
+    String[] texts = {
+      "",
+      "The cat sat.\n",
+      "\"I said so,\" she said.\nHe left.\n",
+      "\"You and I,\" they said.\nYou're late.\n",
+      "\"Me?\"\nNobody answered.\n\nThen I ran.",
+    };
+    for (String text : texts) {
+      Prose prose = new Prose(text, Dictionary2.getDefaultDictionary());
+      PovClassification pov = classifier.classify(text);
+      assertEquals("PoV of [" + text + "]: ", prose.getPov(), pov.getPov());
+      assertEquals("Confidence of [" + text + "]: ", 1.0, pov.getConfidence(), 0.0);
+    }
+    PovClassification third = classifier.classify(texts[2]);
+    assertEquals("Third Person Indicators: ", 2, third.getThirdPersonIndicatorCount().intValue());
+    assertEquals("Characters Read: ", texts[2].length(), third.getCharactersRead().intValue());
+  }
+
+  @Test
+  public void testThreshold() {
+    String text = "He waited.\nShe waited.\nThey waited.\nI left.\n";
+    PovClassification early = new PovClassifier(0.5).classify(text);
+    assertEquals("Early PoV: ", PovType.THIRD, early.getPov());
+    assertTrue("Early Confidence: ", early.getConfidence() >= 0.5
+        && early.getConfidence() < 1.0);
+    assertEquals("Exact PoV: ", PovType.FIRST, new PovClassifier(1.0).classify(text).getPov());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidThreshold() {
+    new PovClassifier(1.5);
+  }
+
+}
@@ -0,0 +1,139 @@
+package com.prosegrinder.bookworm.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ProseAnalyzerTest {
+
+  private static final int WORD_COUNT = 1528;
+
+  private String proseText;
+  private ExecutorService executor;
+
+  @Before
+  public void loadProse() throws IOException, URISyntaxException {
+    this.proseText = TestTexts.read("shunn/shortstory.txt");
+    this.executor = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void shutdownExecutor() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  public void testAnalyzeAsync() throws InterruptedException, ExecutionException {
+    CompletableFuture<Prose> future = ProseAnalyzer.analyzeAsync(this.proseText,
+        Dictionary2.getDefaultDictionary(), this.executor);
+    assertEquals("Word Count: ", ProseAnalyzerTest.WORD_COUNT,
+        future.get().getWordCount().intValue());
+  }
+
+  @Test
+  public void testTimeBudget() throws InterruptedException {
+    CompletableFuture<Prose> future = ProseAnalyzer.analyzeAsync(this.proseText,
+        Dictionary2.getDefaultDictionary(), ProseOptions.getDefaultProseOptions(),
+        this.executor, Duration.ZERO);
+    try {
+      future.get();
+      fail("Analysis should have run out of time");
+    } catch (ExecutionException e) {
+      assertTrue("Timeout: ", e.getCause() instanceof TimeoutException);
+    }
+  }
+
+  @Test
+  public void testTimeBudgetWhileQueued() throws InterruptedException {
+    // Hold the executor so the budget runs out before the analysis starts.
+    CountDownLatch latch = new CountDownLatch(1);
+    this.executor.execute(() -> {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    CompletableFuture<Prose> future = ProseAnalyzer.analyzeAsync(this.proseText,
+        Dictionary2.getDefaultDictionary(), ProseOptions.getDefaultProseOptions(),
+        this.executor, Duration.ofMillis(50));
+    try {
+      future.get(10, TimeUnit.SECONDS);
+      fail("Analysis should have run out of time");
+    } catch (ExecutionException e) {
+      assertTrue("Timeout: ", e.getCause() instanceof TimeoutException);
+    } catch (TimeoutException e) {
+      fail("Future should have timed out while the analysis was queued");
+    } finally {
+      latch.countDown();
+    }
+  }
+
+  @Test
+  public void testLargeTimeBudget() throws InterruptedException, ExecutionException {
+    // Budgets too large for a long of nanoseconds never run out.
+    for (Duration budget : new Duration[] {Duration.ofSeconds(Long.MAX_VALUE),
+        Duration.ofDays(365L * 1000), Duration.ofNanos(Long.MAX_VALUE)}) {
+      CompletableFuture<Prose> future = ProseAnalyzer.analyzeAsync(this.proseText,
+          Dictionary2.getDefaultDictionary(), ProseOptions.getDefaultProseOptions(),
+          this.executor, budget);
+      assertEquals("Word Count: ", ProseAnalyzerTest.WORD_COUNT,
+          future.get().getWordCount().intValue());
+    }
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    // Hold the executor so the analysis is cancelled before it starts.
+    CountDownLatch latch = new CountDownLatch(1);
+    this.executor.execute(() -> {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    CompletableFuture<Prose> future = ProseAnalyzer.analyzeAsync(this.proseText,
+        Dictionary2.getDefaultDictionary(), this.executor);
+    assertTrue("Cancel: ", future.cancel(true));
+    latch.countDown();
+    this.executor.shutdown();
+    assertTrue("Executor Finished: ", this.executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue("Cancelled: ", future.isCancelled());
+  }
+
+  @Test
+  public void testCheckpoint() {
+    // The checkpoint stops the analysis partway through the Paragraphs.
+    AtomicInteger paragraphs = new AtomicInteger();
+    try {
+      new Prose(this.proseText, Dictionary2.getDefaultDictionary(),
+          ProseOptions.getDefaultProseOptions(), () -> {
+            if (paragraphs.incrementAndGet() > 3) {
+              throw new CancellationException();
+            }
+          });
+      fail("Analysis should have been stopped");
+    } catch (CancellationException e) {
+      assertTrue("Paragraphs Analyzed: ", paragraphs.get() > 3);
+    }
+  }
+
+}
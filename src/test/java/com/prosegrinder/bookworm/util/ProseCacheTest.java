@@ -0,0 +1,79 @@
+package com.prosegrinder.bookworm.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ProseCacheTest {
+
+  private static String proseText;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @BeforeClass
+  public static void loadProse() throws IOException, URISyntaxException {
+    ProseCacheTest.proseText = TestTexts.read("shunn/shortstory.txt");
+  }
+
+  @Test
+  public void testMemoryCache() {
+    ProseCache cache = ProseCache.getDefaultProseCache(Dictionary2.getDefaultDictionary());
+    ProseResults results = cache.analyze(ProseCacheTest.proseText);
+    assertSame("Cached: ", results, cache.analyze(new StringBuilder(ProseCacheTest.proseText)));
+    assertEquals("Entries: ", 1L, cache.getMemoryEntryCount().longValue());
+    assertEquals("Word Count: ",
+        new Prose(ProseCacheTest.proseText, Dictionary2.getDefaultDictionary()).getWordCount(),
+        results.getWordCount());
+    assertNotEquals("Key: ", cache.getKey(ProseCacheTest.proseText),
+        cache.getKey(ProseCacheTest.proseText + " "));
+  }
+
+  @Test
+  public void testEviction() {
+    ProseCache cache = new ProseCache(Dictionary2.getDefaultDictionary(),
+        ProseOptions.getDefaultProseOptions(), 1L, null);
+    cache.analyze(ProseCacheTest.proseText);
+    assertEquals("Entries: ", 0L, cache.getMemoryEntryCount().longValue());
+  }
+
+  @Test
+  public void testDiskCache() throws IOException {
+    Path directory = this.folder.getRoot().toPath().resolve("results");
+    ProseCache cache = new ProseCache(Dictionary2.getDefaultDictionary(),
+        ProseOptions.getDefaultProseOptions(), 1L << 20, directory);
+    ProseResults results = cache.analyze(ProseCacheTest.proseText);
+    Path file = directory.resolve(cache.getKey(ProseCacheTest.proseText) + ".bkwr");
+    assertTrue("Written: ", Files.exists(file));
+    cache.invalidateMemory();
+    ProseResults read = cache.analyze(ProseCacheTest.proseText);
+    assertArrayEquals("Read: ", results.toBytes(), read.toBytes());
+    // A file that cannot be read is replaced.
+    Files.write(file, new byte[] {1, 2, 3});
+    cache.invalidateMemory();
+    assertArrayEquals("Rewritten: ", results.toBytes(),
+        cache.analyze(ProseCacheTest.proseText).toBytes());
+    assertArrayEquals("File: ", results.toBytes(), Files.readAllBytes(file));
+    // So is one corrupted partway through.
+    byte[] corrupt = results.toBytes();
+    corrupt[corrupt.length / 2] ^= (byte) 0xFF;
+    Files.write(file, corrupt);
+    cache.invalidateMemory();
+    assertArrayEquals("Corrupt Rewritten: ", results.toBytes(),
+        cache.analyze(ProseCacheTest.proseText).toBytes());
+    assertArrayEquals("Corrupt File: ", results.toBytes(), Files.readAllBytes(file));
+  }
+
+}
@@ -0,0 +1,139 @@
+package com.prosegrinder.bookworm.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class ProsePublisherTest {
+
+  private String proseText;
+  private Prose prose;
+  private ExecutorService executor;
+
+  @Before
+  public void loadProse() throws IOException, URISyntaxException {
+    this.proseText = TestTexts.read("shunn/shortstory.txt");
+    this.prose = new Prose(this.proseText, Dictionary2.getDefaultDictionary());
+    this.executor = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void shutdownExecutor() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  public void testBackpressure() throws InterruptedException {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ProsePublisher(this.proseText, Dictionary2.getDefaultDictionary(), this.executor)
+        .subscribe(subscriber);
+    assertEquals("Subscribed: ", "subscribe", subscriber.signals.poll(10, TimeUnit.SECONDS));
+    List<ProseProgress> steps = new ArrayList<ProseProgress>();
+    do {
+      // Nothing is published until it is asked for.
+      assertNull("Unrequested: ", subscriber.signals.poll(10, TimeUnit.MILLISECONDS));
+      subscriber.subscription.request(1);
+      Object signal = subscriber.signals.poll(10, TimeUnit.SECONDS);
+      assertTrue("Signal: " + signal, signal instanceof ProseProgress);
+      steps.add((ProseProgress) signal);
+    } while (!steps.get(steps.size() - 1).isComplete());
+    assertEquals("Completed: ", "complete", subscriber.signals.poll(10, TimeUnit.SECONDS));
+    assertEquals("Steps: ", this.prose.getParagraphCount() + 1, steps.size());
+    for (int i = 0; i < this.prose.getParagraphCount(); i++) {
+      assertEquals("Paragraph Index: ", i, steps.get(i).getParagraphIndex().intValue());
+      assertEquals("Paragraph: ", this.prose.getParagraphs().get(i).getInitialText(),
+          steps.get(i).getParagraph().getInitialText());
+    }
+    ProseProgress last = steps.get(steps.size() - 2);
+    ProseProgress complete = steps.get(steps.size() - 1);
+    assertTrue("Complete: ", complete.isComplete());
+    assertEquals("Word Count: ", this.prose.getWordCount(), last.getWordCount());
+    assertEquals("Sentence Count: ", this.prose.getSentenceCount(), last.getSentenceCount());
+    assertEquals("Syllable Count: ", this.prose.getSyllableCount(), last.getSyllableCount());
+    assertEquals("Paragraph Count: ", this.prose.getParagraphCount(),
+        last.getParagraphCount());
+    assertEquals("Flesch Reading Ease: ",
+        new ReadabilityScores(this.prose).getFleschReadingEase(),
+        last.getTotalReadabilityScores().getFleschReadingEase());
+    assertEquals("Prose Word Count: ", this.prose.getWordCount(),
+        complete.getProse().getWordCount());
+    assertEquals("Prose Dialogue Word Count: ", this.prose.getDialogueWordCount(),
+        complete.getProse().getDialogueWordCount());
+    assertEquals("Prose Chapter Count: ", this.prose.getChapters().size(),
+        complete.getProse().getChapters().size());
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ProsePublisher(this.proseText, Dictionary2.getDefaultDictionary(), this.executor)
+        .subscribe(subscriber);
+    subscriber.signals.poll(10, TimeUnit.SECONDS);
+    subscriber.subscription.request(2);
+    assertTrue(subscriber.signals.poll(10, TimeUnit.SECONDS) instanceof ProseProgress);
+    assertTrue(subscriber.signals.poll(10, TimeUnit.SECONDS) instanceof ProseProgress);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertNull("Cancelled: ", subscriber.signals.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testInvalidRequest() throws InterruptedException {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    new ProsePublisher(this.proseText, Dictionary2.getDefaultDictionary(), this.executor)
+        .subscribe(subscriber);
+    subscriber.signals.poll(10, TimeUnit.SECONDS);
+    subscriber.subscription.request(0);
+    assertTrue("Error: ", subscriber.signals.poll(10, TimeUnit.SECONDS)
+        instanceof IllegalArgumentException);
+  }
+
+  /**
+   * Records every signal in the order received: "subscribe", each item, any error, and
+   * "complete".
+   */
+  private static final class RecordingSubscriber implements Subscriber<ProseProgress> {
+
+    private final BlockingQueue<Object> signals = new LinkedBlockingQueue<Object>();
+    private volatile Subscription subscription;
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+      this.subscription = subscription;
+      this.signals.add("subscribe");
+    }
+
+    @Override
+    public void onNext(final ProseProgress progress) {
+      this.signals.add(progress);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      this.signals.add(t);
+    }
+
+    @Override
+    public void onComplete() {
+      this.signals.add("complete");
+    }
+
+  }
+
+}
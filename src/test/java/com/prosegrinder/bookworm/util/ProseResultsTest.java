@@ -0,0 +1,132 @@
+package com.prosegrinder.bookworm.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+public class ProseResultsTest {
+
+  private static String proseText;
+  private static Prose prose;
+
+  @BeforeClass
+  public static void loadProse() throws IOException, URISyntaxException {
+    ProseResultsTest.proseText = TestTexts.read("shunn/shortstory.txt");
+    ProseResultsTest.prose = new Prose(ProseResultsTest.proseText,
+        Dictionary2.getDefaultDictionary());
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    Prose prose = ProseResultsTest.prose;
+    byte[] bytes = new ProseResults(prose).toBytes();
+    assertTrue("Compact: ", bytes.length < ProseResultsTest.proseText.length());
+    ProseResults results = ProseResults.fromBytes(bytes);
+    assertEquals("Word Count: ", prose.getWordCount(), results.getWordCount());
+    assertEquals("Syllable Count: ", prose.getSyllableCount(), results.getSyllableCount());
+    assertEquals("Sentence Count: ", prose.getSentenceCount(), results.getSentenceCount());
+    assertEquals("Paragraph Count: ", prose.getParagraphCount(), results.getParagraphCount());
+    assertEquals("Complex Word Count: ", prose.getComplexWordCount(),
+        results.getComplexWordCount());
+    assertEquals("Dialogue Word Count: ", prose.getDialogueWordCount(),
+        results.getDialogueWordCount());
+    assertEquals("Narrative Syllable Count: ", prose.getNarrativeSyllableCount(),
+        results.getNarrativeSyllableCount());
+    assertEquals("Third Person Indicator Count: ", prose.getThirdPersonIndicatorCount(),
+        results.getThirdPersonIndicatorCount());
+    assertEquals("POV: ", prose.getPov(), results.getPov());
+    assertEquals("Flesch Reading Ease: ",
+        new ReadabilityScores(prose).getFleschReadingEase(),
+        results.getReadabilityScores().getFleschReadingEase());
+    Paragraph paragraph = prose.getParagraphs().get(5);
+    assertEquals("Paragraph Sentence Count: ", paragraph.getSentenceCount(),
+        results.getParagraphSentenceCount(5));
+    assertEquals("Paragraph Word Count: ", paragraph.getWordCount(),
+        results.getParagraphReadabilityScores(5).getWordCount());
+    Word word = prose.getWords().get(0);
+    assertEquals("Word Frequency: ", prose.getWordFrequency(word),
+        results.getWordFrequency(word.getNormalizedText()));
+    assertEquals("Dialogue Word Frequency: ", prose.getDialogueWordFrequency(word),
+        results.getDialogueWordFrequency(word.getNormalizedText()));
+    assertEquals("Unknown Word Frequency: ", 0,
+        results.getWordFrequency("zzyzx").intValue());
+    assertEquals("Unique Words: ", new ProseResults(prose).getUniqueWords(),
+        results.getUniqueWords());
+    assertArrayEquals("Narrative Spans: ", new ProseResults(prose).getNarrativeSpans(),
+        results.getNarrativeSpans());
+    assertArrayEquals("Written Again: ", bytes, results.toBytes());
+  }
+
+  @Test
+  public void testUnknownVersion() {
+    byte[] bytes = new ProseResults(ProseResultsTest.prose).toBytes();
+    bytes[4] = (byte) (ProseResults.FORMAT_VERSION + 1);
+    try {
+      ProseResults.fromBytes(bytes);
+      fail("Unknown version should not be read");
+    } catch (IOException e) {
+      assertTrue("Version: ", e.getMessage().contains("version"));
+    }
+  }
+
+  @Test
+  public void testCorruptBytes() {
+    // Every single byte corruption is rejected, whether by a count check or the checksum.
+    byte[] bytes = new ProseResults(ProseResultsTest.prose).toBytes();
+    for (int i = 0; i < bytes.length; i++) {
+      for (int mask : new int[] {0x01, 0x80, 0xFF}) {
+        byte[] corrupt = bytes.clone();
+        corrupt[i] ^= (byte) mask;
+        try {
+          ProseResults.fromBytes(corrupt);
+          fail("Corrupt byte " + i + " should not be read");
+        } catch (IOException e) {
+          // Expected.
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCorruptCounts() throws IOException {
+    // A count larger than the stream holds fails at the end of the stream, not by allocating.
+    for (int count : new int[] {-1, Integer.MAX_VALUE}) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(0x424B5752);
+      ProseResultsTest.writeVarInt(out, ProseResults.FORMAT_VERSION);
+      ProseResultsTest.writeVarInt(out, Integer.MAX_VALUE);
+      ProseResultsTest.writeVarInt(out, 18);
+      for (int i = 0; i < 18; i++) {
+        ProseResultsTest.writeVarInt(out, 0);
+      }
+      ProseResultsTest.writeVarInt(out, count);
+      try {
+        ProseResults.fromBytes(bytes.toByteArray());
+        fail("Count " + count + " should not be read");
+      } catch (IOException e) {
+        // Expected.
+      }
+    }
+  }
+
+  private static void writeVarInt(final DataOutputStream out, final int value)
+      throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.writeByte(remaining);
+  }
+
+}
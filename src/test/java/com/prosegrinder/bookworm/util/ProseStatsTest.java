@@ -0,0 +1,69 @@
+package com.prosegrinder.bookworm.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URISyntaxException;
+
+public class ProseStatsTest {
+
+  private static String proseText;
+
+  @BeforeClass
+  public static void loadProse() throws IOException, URISyntaxException {
+    ProseStatsTest.proseText = TestTexts.read("shunn/shortstory.txt");
+  }
+
+  private static ProseStats stats(final String text) {
+    return new ProseStats(new Prose(text, Dictionary2.getDefaultDictionary()));
+  }
+
+  @Test
+  public void testMergeEqualsWhole() {
+    String text = ProseStatsTest.proseText;
+    int first = text.indexOf('\n', text.length() / 3) + 1;
+    int second = text.indexOf('\n', 2 * text.length() / 3) + 1;
+    ProseStats a = ProseStatsTest.stats(text.substring(0, first));
+    ProseStats b = ProseStatsTest.stats(text.substring(first, second));
+    ProseStats c = ProseStatsTest.stats(text.substring(second));
+    Prose prose = new Prose(text, Dictionary2.getDefaultDictionary());
+    ProseStats whole = new ProseStats(prose);
+    ProseStats left = a.merge(b).merge(c);
+    ProseStats right = a.merge(b.merge(c));
+    assertEquals("Associative: ", left, right);
+    assertEquals("Commutative: ", left, c.merge(a).merge(b));
+    assertEquals("Identity: ", whole, ProseStats.EMPTY.merge(whole));
+    assertEquals("Whole: ", whole, left);
+    assertEquals("Word Count: ", prose.getWordCount().longValue(),
+        left.getWordCount().longValue());
+    assertEquals("Paragraph Count: ", prose.getParagraphCount().longValue(),
+        left.getParagraphCount().longValue());
+    assertEquals("Dialogue Word Count: ", prose.getDialogueWordCount().longValue(),
+        left.getDialogueWordCount().longValue());
+    assertEquals("Unique Words: ", prose.getUniqueWordCount(), left.getUniqueWordCount());
+    assertEquals("POV: ", prose.getPov(), left.getPov());
+    assertEquals("Flesch Reading Ease: ", new ReadabilityScores(prose).getFleschReadingEase(),
+        left.getReadabilityScores().getFleschReadingEase());
+  }
+
+  @Test
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    ProseStats stats = ProseStatsTest.stats(ProseStatsTest.proseText);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(stats);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(
+        new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertEquals("Round Trip: ", stats, in.readObject());
+    }
+  }
+
+}
@@ -1,21 +1,31 @@
 package com.prosegrinder.bookworm.util;
 
+import com.prosegrinder.bookworm.enums.ParagraphStyle;
 import com.prosegrinder.bookworm.enums.PovType;
 
 import org.junit.Before;
 import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 
 public class ProseTest {
 
   private Prose prose;
   private Prose narrativeProse;
+  private Path prosePath;
 
   /** Log4j Logger. **/
   private static final int COMPLEX_WORD_COUNT = 202;
@@ -36,7 +46,7 @@ public class ProseTest {
     Dictionary2 dictionary = Dictionary2.getDefaultDictionary();
     ClassLoader classLoader = ProseTest.class.getClassLoader();
 
-    Path prosePath = Paths.get(classLoader.getResource("shunn/shortstory.txt").toURI());
+    this.prosePath = Paths.get(classLoader.getResource("shunn/shortstory.txt").toURI());
     this.prose = new Prose(String.join("\n", Files.readAllLines(prosePath)), dictionary);
 
     Path narrativeProsePath =
@@ -110,4 +120,315 @@ public class ProseTest {
     assertEquals("Sum of Word Frequencies and Discovered Word Count: ", ProseTest.WORD_COUNT, prose.getWordCount().intValue());
   }
 
+  @Test
+  public void testFromFile() throws IOException {
+    Prose mappedProse = Prose.fromFile(this.prosePath, Dictionary2.getDefaultDictionary());
+    assertEquals("Mapped Word Count: ", ProseTest.WORD_COUNT,
+        mappedProse.getWordCount().intValue());
+    assertEquals("Mapped Sentence Count: ", ProseTest.SENTENCE_COUNT,
+        mappedProse.getSentenceCount().intValue());
+    assertEquals("Mapped Syllable Count: ", ProseTest.SYLLABLE_COUNT,
+        mappedProse.getSyllableCount().intValue());
+    assertEquals("Mapped Dialogue Word Count: ", prose.getDialogueWordCount(),
+        mappedProse.getDialogueWordCount());
+    assertEquals("Mapped Narrative Word Count: ", prose.getNarrativeWordCount(),
+        mappedProse.getNarrativeWordCount());
+    assertEquals("Mapped Word Frequency: ", prose.getWordFrequency(),
+        mappedProse.getWordFrequency());
+  }
+
+  @Test
+  public void testRevise() {
+    String text = prose.getInitialText();
+    int start = text.indexOf('\n', text.length() / 2) + 1;
+    String insert = "\"I said no,\" you said. He left.\n\n";
+    Prose revisedProse = prose.revise(start, start, insert);
+    Prose expectedProse = new Prose(text.substring(0, start) + insert + text.substring(start),
+        Dictionary2.getDefaultDictionary());
+    assertEquals("Revised Word Count: ", expectedProse.getWordCount(),
+        revisedProse.getWordCount());
+    assertEquals("Revised Sentence Count: ", expectedProse.getSentenceCount(),
+        revisedProse.getSentenceCount());
+    assertEquals("Revised Paragraph Count: ", expectedProse.getParagraphCount(),
+        revisedProse.getParagraphCount());
+    assertEquals("Revised Dialogue Word Count: ", expectedProse.getDialogueWordCount(),
+        revisedProse.getDialogueWordCount());
+    assertEquals("Revised Second Person Indicator Count: ",
+        expectedProse.getSecondPersonIndicatorCount(),
+        revisedProse.getSecondPersonIndicatorCount());
+    assertEquals("Revised Word Frequency: ", expectedProse.getWordFrequency(),
+        revisedProse.getWordFrequency());
+    assertEquals("Revised Narrative Word Frequency: ", expectedProse.getNarrativeWordFrequency(),
+        revisedProse.getNarrativeWordFrequency());
+
+    Prose restoredProse = revisedProse.revise(text);
+    assertEquals("Restored Word Count: ", ProseTest.WORD_COUNT,
+        restoredProse.getWordCount().intValue());
+    assertEquals("Restored Sentence Count: ", ProseTest.SENTENCE_COUNT,
+        restoredProse.getSentenceCount().intValue());
+    assertEquals("Restored Word Frequency: ", prose.getWordFrequency(),
+        restoredProse.getWordFrequency());
+  }
+
+  @Test
+  public void testReviseBlankLinesBetweenSections() {
+    String text = "Chapter One\nThe first scene.\n\n\n* * *\nThe second scene.\n"
+        + "Chapter Two\nThe last scene.\n";
+    Prose original = new Prose(text, Dictionary2.getDefaultDictionary());
+    int blank = text.indexOf("\n\n\n");
+    for (String revisedText : new String[] {
+        text.substring(0, blank) + text.substring(blank + 1),
+        text.substring(0, blank) + "\n" + text.substring(blank)}) {
+      Prose revisedProse = original.revise(revisedText);
+      Prose expectedProse = new Prose(revisedText, Dictionary2.getDefaultDictionary());
+      assertEquals("Chapter Count: ", expectedProse.getChapters().size(),
+          revisedProse.getChapters().size());
+      for (int i = 0; i < expectedProse.getChapters().size(); i++) {
+        assertEquals("Chapter Text: ", expectedProse.getChapters().get(i).getInitialText(),
+            revisedProse.getChapters().get(i).getInitialText());
+        assertEquals("Chapter Normalized Text: ",
+            expectedProse.getChapters().get(i).getNormalizedText(),
+            revisedProse.getChapters().get(i).getNormalizedText());
+      }
+      assertEquals("Section Count: ", expectedProse.getSections().size(),
+          revisedProse.getSections().size());
+      for (int i = 0; i < expectedProse.getSections().size(); i++) {
+        assertEquals("Section Text: ", expectedProse.getSections().get(i).getInitialText(),
+            revisedProse.getSections().get(i).getInitialText());
+      }
+    }
+  }
+
+  @Test
+  public void testCachedViews() {
+    assertSame("Sentences Cached: ", prose.getSentences(), prose.getSentences());
+    assertSame("Words Cached: ", prose.getWords(), prose.getWords());
+    assertEquals("Sentence Stream Count: ", ProseTest.SENTENCE_COUNT,
+        prose.getSentenceStream().parallel().count());
+    assertEquals("Word Stream Syllable Count: ", ProseTest.SYLLABLE_COUNT,
+        prose.getWordStream().parallel().mapToInt( word -> word.getSyllableCount()).sum());
+  }
+
+  @Test
+  public void testChapters() {
+    assertEquals("Chapter Count: ", 1, prose.getChapters().size());
+    assertEquals("Section Count: ", 2, prose.getSections().size());
+    assertEquals("Section Word Count: ", ProseTest.WORD_COUNT,
+        prose.getSections().stream().mapToInt( section -> section.getWordCount()).sum());
+
+    String novel = "Title\n\nChapter One\n\nHe ran. She ran.\n\n* * *\n\nThey stopped.\n\n"
+        + "Chapter Two\n\nYou stayed.\n";
+    Prose novelProse = new Prose(novel, Dictionary2.getDefaultDictionary());
+    assertEquals("Novel Chapter Count: ", 3, novelProse.getChapters().size());
+    assertEquals("Front Matter Heading: ", null, novelProse.getChapters().get(0).getHeading());
+    assertEquals("Chapter Heading: ", "Chapter One",
+        novelProse.getChapters().get(1).getHeading());
+    assertEquals("Chapter Section Count: ", 2,
+        novelProse.getChapters().get(1).getSectionCount().intValue());
+    assertEquals("Chapter Sentence Count: ", 3,
+        novelProse.getChapters().get(1).getSentenceCount().intValue());
+    assertEquals("Chapter Word Count: ", novelProse.getWordCount().intValue(),
+        novelProse.getChapters().stream().mapToInt( chapter -> chapter.getWordCount()).sum());
+    assertEquals("Chapter Paragraph Count: ", novelProse.getParagraphCount().intValue(),
+        novelProse.getChapters().stream().mapToInt( chapter -> chapter.getParagraphCount()).sum());
+  }
+
+  @Test
+  public void testDialogueFragments() throws IOException, URISyntaxException {
+    Path dialoguePath = Paths.get(ProseTest.class.getClassLoader()
+        .getResource("shunn/shortstory_dialogue.txt").toURI());
+    List<String> expectedDialogue = Files.readAllLines(dialoguePath);
+    List<String> dialogue = new ArrayList<String>();
+    prose.getDialogueFragments().forEach( fragment -> dialogue.add(fragment.getInitialText()));
+    assertEquals("Dialogue Fragments: ", expectedDialogue, dialogue);
+
+    List<String> patternDialogue = new ArrayList<String>();
+    Matcher dialogueMatcher = DialogueFragment.getPattern()
+        .matcher(Container.convertSmartQuotes(prose.getInitialText()));
+    while (dialogueMatcher.find()) {
+      patternDialogue.add(dialogueMatcher.group());
+    }
+    assertEquals("Dialogue Fragments Match Pattern: ", patternDialogue, dialogue);
+  }
+
+  @Test
+  public void testParallelDialogue() {
+    StringBuilder novel = new StringBuilder();
+    while (novel.length() <= 4 * DialogueScanner.CHUNK_SIZE) {
+      novel.append(prose.getInitialText()).append('\n');
+    }
+    assertArrayEquals("Parallel Dialogue Spans: ",
+        DialogueScanner.findDialogueSpans(novel, 0, novel.length()),
+        DialogueScanner.findDialogueSpansParallel(novel));
+  }
+
+  @Test
+  public void testSentences() throws IOException, URISyntaxException {
+    Path sentencesPath = Paths.get(ProseTest.class.getClassLoader()
+        .getResource("shunn/shortstory_sentences.txt").toURI());
+    List<String> expectedSentences = Files.readAllLines(sentencesPath);
+    List<Sentence> sentences = prose.getSentences();
+    assertEquals("Sentences: ", expectedSentences.size(), sentences.size());
+    for (int i = 0; i < sentences.size(); i++) {
+      // The expected sentences leave out parentheses around whole sentences.
+      assertTrue("Sentence " + i + ": ",
+          sentences.get(i).getInitialText().contains(expectedSentences.get(i)));
+    }
+
+    List<String> patternSentences = new ArrayList<String>();
+    prose.getParagraphs().forEach( paragraph -> {
+      Matcher sentenceMatcher = Sentence.getPattern().matcher(paragraph.getInitialText());
+      while (sentenceMatcher.find()) {
+        patternSentences.add(sentenceMatcher.group());
+      }
+    });
+    List<String> scannedSentences = new ArrayList<String>();
+    sentences.forEach( sentence -> scannedSentences.add(sentence.getInitialText()));
+    assertEquals("Sentences Match Pattern: ", patternSentences, scannedSentences);
+  }
+
+  @Test
+  public void testParagraphStyles() {
+    String text = "Line one.\r\n\r\n  \nLine two\nstill two.\n\nThree.\n";
+    List<String> lineParagraphs = new ArrayList<String>();
+    new Prose(text, Dictionary2.getDefaultDictionary()).getParagraphs().forEach(
+        paragraph -> lineParagraphs.add(paragraph.getInitialText()));
+    assertEquals("Line Paragraphs: ",
+        Arrays.asList("Line one.", "Line two", "still two.", "Three."), lineParagraphs);
+
+    ProseOptions options = ProseOptions.getDefaultProseOptions()
+        .withParagraphStyle(ParagraphStyle.BLANK_LINE);
+    Prose blankLineProse = new Prose(text, Dictionary2.getDefaultDictionary(), options);
+    List<String> blankLineParagraphs = new ArrayList<String>();
+    blankLineProse.getParagraphs().forEach(
+        paragraph -> blankLineParagraphs.add(paragraph.getInitialText()));
+    assertEquals("Blank Line Paragraphs: ",
+        Arrays.asList("Line one.", "Line two\nstill two.", "Three."), blankLineParagraphs);
+
+    // Removing the blank line before the last paragraph joins it to the one before.
+    String revisedText = text.replace("two.\n\n", "two.\n");
+    Prose revisedProse = blankLineProse.revise(revisedText);
+    Prose expectedProse = new Prose(revisedText, Dictionary2.getDefaultDictionary(), options);
+    assertEquals("Revised Blank Line Paragraph Count: ", 2,
+        revisedProse.getParagraphCount().intValue());
+    assertEquals("Revised Blank Line Sentence Count: ", expectedProse.getSentenceCount(),
+        revisedProse.getSentenceCount());
+  }
+
+  @Test
+  public void testNormalizedText() {
+    String text = "She said, “I’m LEAVING.” She left.\nThe END.";
+    Prose normalizedProse = new Prose(text, Dictionary2.getDefaultDictionary());
+    assertEquals("Prose Normalized Text: ", "she said, \"i'm leaving.\" she left.\nthe end.",
+        normalizedProse.getNormalizedText());
+    assertEquals("Sentence Normalized Text: ", "the end.",
+        normalizedProse.getSentences().get(1).getNormalizedText());
+    assertEquals("Dialogue Normalized Text: ", "\"i'm leaving.\"",
+        normalizedProse.getDialogueFragments().get(0).getNormalizedText());
+    assertEquals("Normalized Text Matches Container: ",
+        Container.normalizeText(text), normalizedProse.getNormalizedText());
+    assertTrue("Curly Apostrophe Word: ",
+        normalizedProse.getWords().contains(Dictionary2.getDefaultDictionary().getWord("i'm")));
+
+    String revisedText = text.replace("LEAVING", "Staying");
+    assertEquals("Revised Normalized Text: ",
+        new Prose(revisedText, Dictionary2.getDefaultDictionary()).getNormalizedText(),
+        normalizedProse.revise(revisedText).getNormalizedText());
+  }
+
+  @Test
+  public void testTopWords() {
+    // Every Word, sorted the slow way, with ties ordered by text.
+    List<Map.Entry<Word, Integer>> sorted =
+        new ArrayList<Map.Entry<Word, Integer>>(prose.getNarrativeWordFrequency().entrySet());
+    sorted.sort( (lhs, rhs) -> (lhs.getValue().equals(rhs.getValue()))
+        ? lhs.getKey().getNormalizedText().compareTo(rhs.getKey().getNormalizedText())
+        : rhs.getValue() - lhs.getValue());
+    assertEquals("Top Narrative Words: ", sorted.subList(0, 50),
+        prose.getTopNarrativeWords(50, false));
+    assertEquals("All Words: ", prose.getUniqueWordCount().intValue(),
+        prose.getTopWords(Integer.MAX_VALUE).size());
+    assertTrue("No Words: ", prose.getTopWords(0).isEmpty());
+
+    List<Map.Entry<Word, Integer>> content = prose.getTopDialogueWords(20, true);
+    assertEquals("Content Words: ", 20, content.size());
+    content.forEach( entry -> {
+      assertTrue("Stop Word: " + entry.getKey(), !entry.getKey().isStopWord());
+      assertEquals("Dialogue Frequency: ", prose.getDialogueWordFrequency(entry.getKey()),
+          entry.getValue());
+    });
+    prose.getTopPovWords(5).forEach( entry -> {
+      assertTrue("PoV Word: " + entry.getKey(), entry.getKey().isPovWord());
+    });
+    assertEquals("Top PoV Word: ", prose.getWordFrequency().entrySet().stream()
+        .filter( entry -> entry.getKey().isPovWord())
+        .mapToInt( entry -> entry.getValue()).max().getAsInt(),
+        prose.getTopPovWords(1).get(0).getValue().intValue());
+  }
+
+  @Test
+  public void testPovWordFrequency() {
+    Dictionary2 dictionary = Dictionary2.getDefaultDictionary();
+    assertEquals("PoV Words: ", Word.POV_FIRST.size() + Word.POV_SECOND.size()
+        + Word.POV_THIRD.size(), prose.getPovWordFrequency().size());
+    assertEquals("First Person: ", prose.getWordFrequency(Word.POV_FIRST),
+        prose.getFirstPersonWordFrequency());
+    assertEquals("Second Person: ", prose.getWordFrequency(Word.POV_SECOND),
+        prose.getSecondPersonWordFrequency());
+    assertEquals("Third Person: ", prose.getWordFrequency(Word.POV_THIRD),
+        prose.getThirdPersonWordFrequency());
+    assertEquals("PoV Word Count: ", prose.getPovWordCount().intValue(),
+        prose.getPovWordFrequency().values().stream().mapToInt( count -> count).sum());
+    Word you = dictionary.getWord("you");
+    assertEquals("PoV Type: ", PovType.SECOND, you.getPovType());
+    assertEquals("PoV Word Frequency: ", prose.getWordFrequency(you),
+        prose.getPovWordFrequency(you));
+    assertEquals("Not PoV: ", PovType.UNKNOWN, dictionary.getWord("the").getPovType());
+
+    Prose revised = prose.revise(prose.getInitialText() + "\nYou and I.");
+    assertEquals("Revised First Person: ", revised.getWordFrequency(Word.POV_FIRST),
+        revised.getFirstPersonWordFrequency());
+  }
+
+  @Test
+  public void testDottedCapitalI() {
+    // String.toLowerCase turns İ into two characters, which would shift every offset after it.
+    Dictionary2 dictionary = Dictionary2.getDefaultDictionary();
+    String text = "İSTANBUL was far. \"İ said İzmir,\" she said. İİİ word after İ.\n"
+        + "Next İne \"İ\" end.";
+    Prose dotted = new Prose(text, dictionary);
+    assertEquals("Word Count: ", 16, dotted.getWordCount().intValue());
+    assertEquals("Fragment Word Count: ", dotted.getWordCount().intValue(),
+        dotted.getDialogueWordCount() + dotted.getNarrativeWordCount());
+    assertEquals("Folded: ", "istanbul", dotted.getWords().get(0).getNormalizedText());
+    for (DialogueFragment fragment : dotted.getDialogueFragments()) {
+      assertEquals("Dialogue Words: ",
+          new DialogueFragment(fragment.getInitialText(), dictionary).getWords(),
+          fragment.getWords());
+    }
+    for (NarrativeFragment fragment : dotted.getNarrativeFragments()) {
+      assertEquals("Narrative Words: ",
+          new NarrativeFragment(fragment.getInitialText(), dictionary).getWords(),
+          fragment.getWords());
+    }
+    for (Sentence sentence : dotted.getSentences()) {
+      assertEquals("Sentence Words: ",
+          new Sentence(sentence.getInitialText(), dictionary).getWords(), sentence.getWords());
+    }
+  }
+
+  @Test
+  public void testOtherLineTerminators() {
+    // Only a line feed ends a line; no text before the other terminators is lost.
+    Dictionary2 dictionary = Dictionary2.getDefaultDictionary();
+    Prose prose = new Prose("One two.\u2028Three.\u2029Four.\u0085Five.\rSix.\n"
+        + "Seven.\r\n", dictionary);
+    assertEquals("Paragraph Count: ", 2, prose.getParagraphCount().intValue());
+    assertEquals("Word Count: ", 7, prose.getWordCount().intValue());
+    assertEquals("First Paragraph: ", "One two.\u2028Three.\u2029Four.\u0085Five.\rSix.",
+        prose.getParagraphs().get(0).getInitialText());
+    assertEquals("Second Paragraph: ", "Seven.",
+        prose.getParagraphs().get(1).getInitialText());
+  }
+
 }
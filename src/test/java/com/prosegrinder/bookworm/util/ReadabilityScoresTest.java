@@ -73,4 +73,75 @@ public class ReadabilityScoresTest {
     logger.info("SMOG Index: " + formatter.format(scores.getSmog()));
   }
 
+  @Test
+  public void testSentenceRangeScores() {
+    ReadabilityScores expectedScores = new ReadabilityScores(prose);
+    ReadabilityScores scores = prose.getReadabilityScores(0, SENTENCE_COUNT);
+    assertEquals("Full Range Flesch Reading Ease: ", expectedScores.getFleschReadingEase(),
+        scores.getFleschReadingEase());
+    assertEquals("Full Range SMOG Index: ", expectedScores.getSmog(), scores.getSmog());
+
+    List<Sentence> sentences = prose.getSentences().subList(10, 20);
+    ReadabilityScores rangeScores = prose.getReadabilityScores(10, 20);
+    assertEquals("Range Sentence Count: ", 10, rangeScores.getSentenceCount().intValue());
+    assertEquals("Range Word Count: ",
+        sentences.stream().mapToInt( sentence -> sentence.getWordCount()).sum(),
+        rangeScores.getWordCount().intValue());
+    assertEquals("Range Syllable Count: ",
+        sentences.stream().mapToInt( sentence -> sentence.getSyllableCount()).sum(),
+        rangeScores.getSyllableCount().intValue());
+    assertEquals("Range Character Count: ",
+        sentences.stream().mapToInt( sentence -> sentence.getWordCharacterCount()).sum(),
+        rangeScores.getCharacterCount().intValue());
+  }
+
+  @Test
+  public void testReadabilityProfile() {
+    ReadabilityProfile sentenceProfile = prose.getReadabilityProfileBySentences(20, 5);
+    assertEquals("Sentence Windows: ", (SENTENCE_COUNT - 20) / 5 + 1, sentenceProfile.size());
+    assertEquals("Sentence Window Flesch Reading Ease: ",
+        prose.getReadabilityScores(10, 30).getFleschReadingEase(),
+        sentenceProfile.getFleschReadingEase()[2], 0.0);
+
+    ReadabilityProfile wholeProfile = prose.getReadabilityProfileByWords(WORD_COUNT * 2, 1);
+    ReadabilityScores scores = new ReadabilityScores(prose);
+    assertEquals("Whole Text Windows: ", 1, wholeProfile.size());
+    assertEquals("Whole Text Gunning Fog Index: ", scores.getGunningFogIndex(),
+        wholeProfile.getGunningFogIndex()[0], 0.0);
+
+    ReadabilityProfile wordProfile = prose.getReadabilityProfileByWords(100, 50);
+    assertEquals("Word Windows: ", (WORD_COUNT - 100) / 50 + 1, wordProfile.size());
+    assertEquals("Word Window End: ", 150, wordProfile.getWindowEnd(1));
+  }
+
+  @Test
+  public void testReadabilityBatch() {
+    int[] characterCounts = {CHARACTER_COUNT, 0, 41, 600};
+    int[] complexWordCounts = {COMPLEX_WORD_COUNT, 0, 1, 12};
+    int[] longWordCounts = {LONG_WORD_COUNT, 0, 2, 20};
+    int[] sentenceCounts = {SENTENCE_COUNT, 0, 1, 0};
+    int[] syllableCounts = {SYLLABLE_COUNT, 0, 13, 180};
+    int[] wordCounts = {WORD_COUNT, 0, 9, 120};
+    ReadabilityBatch batch = new ReadabilityBatch(4).score(characterCounts, complexWordCounts,
+        longWordCounts, sentenceCounts, syllableCounts, wordCounts);
+    for (int i = 0; i < batch.size(); i++) {
+      ReadabilityScores scores = new ReadabilityScores(characterCounts[i],
+          complexWordCounts[i], longWordCounts[i], sentenceCounts[i], syllableCounts[i],
+          wordCounts[i]);
+      assertEquals("Automated Readability Index: ", scores.getAutomatedReadabilityIndex(),
+          batch.getAutomatedReadabilityIndex()[i], 0.0);
+      assertEquals("Coleman Liau Index: ", scores.getColemanLiauIndex(),
+          batch.getColemanLiauIndex()[i], 0.0);
+      assertEquals("Flesch Kincaid Grade Level: ", scores.getFleschKincaidGradeLevel(),
+          batch.getFleschKincaidGradeLevel()[i], 0.0);
+      assertEquals("Flesch Reading Ease: ", scores.getFleschReadingEase(),
+          batch.getFleschReadingEase()[i], 0.0);
+      assertEquals("Gunning Fog Index: ", scores.getGunningFogIndex(),
+          batch.getGunningFogIndex()[i], 0.0);
+      assertEquals("LIX: ", scores.getLix(), batch.getLix()[i], 0.0);
+      assertEquals("RIX: ", scores.getRix(), batch.getRix()[i], 0.0);
+      assertEquals("SMOG Index: ", scores.getSmog(), batch.getSmog()[i], 0.0);
+    }
+  }
+
 }
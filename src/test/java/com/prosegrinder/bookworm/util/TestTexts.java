@@ -0,0 +1,25 @@
+package com.prosegrinder.bookworm.util;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Reads the texts under src/test/resources the way ProseTest does, one line at a time.
+ */
+final class TestTexts {
+
+  private TestTexts() {
+  }
+
+  static Path getPath(final String resource) throws URISyntaxException {
+    return Paths.get(TestTexts.class.getClassLoader().getResource(resource).toURI());
+  }
+
+  static String read(final String resource) throws IOException, URISyntaxException {
+    return String.join("\n", Files.readAllLines(TestTexts.getPath(resource)));
+  }
+
+}